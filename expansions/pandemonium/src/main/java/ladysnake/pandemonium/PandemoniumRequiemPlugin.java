@@ -35,6 +35,7 @@
 package ladysnake.pandemonium;
 
 import ladysnake.pandemonium.common.PlayerSplitter;
+import ladysnake.pandemonium.common.entity.PandemoniumEntities;
 import ladysnake.pandemonium.common.entity.PlayerShellEntity;
 import ladysnake.pandemonium.common.entity.ability.*;
 import ladysnake.pandemonium.common.remnant.PlayerBodyTracker;
@@ -63,7 +64,7 @@ public class PandemoniumRequiemPlugin implements RequiemPlugin {
 
     @Override
     public void onRequiemInitialize() {
-        PossessionStartCallback.EVENT.register(Pandemonium.id("shell_interaction"), (target, possessor, simulate) -> {
+        PossessionStartCallback.EVENT.register(Pandemonium.id("shell_interaction"), type -> type == PandemoniumEntities.PLAYER_SHELL, (target, possessor, simulate) -> {
             if (target instanceof PlayerShellEntity) {
                 if (!simulate && !possessor.world.isClient) {
                     if (!PlayerSplitter.merge(((PlayerShellEntity) target), (ServerPlayerEntity) possessor)) {
@@ -36,11 +36,13 @@ package ladysnake.pandemonium.client;
 
 import ladysnake.pandemonium.Pandemonium;
 import ladysnake.pandemonium.client.render.entity.PlayerShellEntityRenderer;
+import ladysnake.pandemonium.client.render.entity.ShellClientPlayerCache;
 import ladysnake.pandemonium.common.entity.PandemoniumEntities;
 import ladysnake.requiem.api.v1.annotation.CalledThroughReflection;
 import ladysnake.requiem.api.v1.event.minecraft.client.CrosshairRenderCallback;
 import net.fabricmc.api.ClientModInitializer;
 import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
 import net.fabricmc.fabric.api.client.rendereregistry.v1.EntityRendererRegistry;
 import net.minecraft.util.Identifier;
 
@@ -51,6 +53,8 @@ public class PandemoniumClient implements ClientModInitializer {
         ClientMessageHandling.init();
         EntityRendererRegistry.INSTANCE.register(PandemoniumEntities.PLAYER_SHELL, (r, it) -> new PlayerShellEntityRenderer(r));
         ClientTickEvents.END_WORLD_TICK.register(Pandemonium::tickAnchors);
+        ClientTickEvents.END_WORLD_TICK.register(ShellClientPlayerCache::checkWorld);
+        ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> ShellClientPlayerCache.clear());
         registerCallbacks();
     }
 
@@ -0,0 +1,126 @@
+/*
+ * Requiem
+ * Copyright (C) 2017-2021 Ladysnake
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses>.
+ *
+ * Linking this mod statically or dynamically with other
+ * modules is making a combined work based on this mod.
+ * Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *
+ * In addition, as a special exception, the copyright holders of
+ * this mod give you permission to combine this mod
+ * with free software programs or libraries that are released under the GNU LGPL
+ * and with code included in the standard release of Minecraft under All Rights Reserved (or
+ * modified versions of such code, with unchanged license).
+ * You may copy and distribute such a system following the terms of the GNU GPL for this mod
+ * and the licenses of the other code concerned.
+ *
+ * Note that people who make modified versions of this mod are not obligated to grant
+ * this special exception for their modified versions; it is their choice whether to do so.
+ * The GNU General Public License gives permission to release a modified version without this exception;
+ * this exception also makes it possible to release a modified version which carries forward this exception.
+ */
+package ladysnake.pandemonium.client.render.entity;
+
+import com.mojang.authlib.GameProfile;
+import ladysnake.pandemonium.common.entity.PlayerShellEntity;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Shares {@link ShellClientPlayerEntity render delegates} between shells created by the same player.
+ *
+ * <p>Delegates are reference counted, and get discarded once the last shell using them goes away.
+ * The cache only ever holds delegates for a single world, and gets flushed when the client changes worlds
+ * or disconnects, so that it does not keep a stale world alive through its delegates.
+ */
+public final class ShellClientPlayerCache {
+    private static final Map<UUID, Entry> ENTRIES = new HashMap<>();
+    private static @Nullable World world;
+
+    public static void clear() {
+        ENTRIES.clear();
+        world = null;
+    }
+
+    /**
+     * Flushes the cache if the client moved to another world since delegates were last created.
+     */
+    public static void checkWorld(ClientWorld currentWorld) {
+        if (world != null && world != currentWorld) {
+            clear();
+        }
+    }
+
+    public static ShellClientPlayerEntity acquire(PlayerShellEntity shell, GameProfile profile) {
+        if (shell.world != world) {
+            clear();
+            world = shell.world;
+        }
+
+        Entry entry = ENTRIES.get(profile.getId());
+
+        if (entry == null || !entry.player.getGameProfile().equals(profile)) {
+            entry = new Entry(new ShellClientPlayerEntity(shell, profile));
+            ENTRIES.put(profile.getId(), entry);
+        }
+
+        entry.refCount++;
+        return entry.player;
+    }
+
+    public static void release(ShellClientPlayerEntity player) {
+        UUID id = player.getGameProfile().getId();
+        Entry entry = ENTRIES.get(id);
+
+        if (entry != null && entry.player == player && --entry.refCount <= 0) {
+            ENTRIES.remove(id);
+        }
+    }
+
+    /**
+     * Gets a delegate that is not shared with any other shell, for shells that need to store their own data in it.
+     */
+    public static ShellClientPlayerEntity detach(PlayerShellEntity shell, ShellClientPlayerEntity player) {
+        UUID id = player.getGameProfile().getId();
+        Entry entry = ENTRIES.get(id);
+
+        if (entry == null || entry.player != player) {
+            return player;  // already private
+        }
+
+        if (entry.refCount <= 1) {
+            ENTRIES.remove(id);
+            return player;
+        }
+
+        entry.refCount--;
+        return new ShellClientPlayerEntity(shell, player.getGameProfile());
+    }
+
+    private static final class Entry {
+        final ShellClientPlayerEntity player;
+        int refCount;
+
+        Entry(ShellClientPlayerEntity player) {
+            this.player = player;
+        }
+    }
+}
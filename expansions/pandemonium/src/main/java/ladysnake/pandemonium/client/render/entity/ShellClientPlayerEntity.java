@@ -48,8 +48,14 @@ import net.minecraft.network.packet.s2c.play.PlayerListS2CPacket;
 import net.minecraft.world.GameMode;
 import org.jetbrains.annotations.Nullable;
 
+/**
+ * A fake player used to render {@link PlayerShellEntity player shells}.
+ *
+ * <p>A single instance can be shared by every shell with the same profile, see {@link ShellClientPlayerCache}.
+ * Shells must {@linkplain #bind(PlayerShellEntity) bind} the instance before using it.
+ */
 public class ShellClientPlayerEntity extends OtherClientPlayerEntity {
-    private final PlayerShellEntity shell;
+    private PlayerShellEntity shell;
     private final PlayerListEntry playerListEntry;
 
     public ShellClientPlayerEntity(PlayerShellEntity shell, GameProfile profile) {
@@ -94,10 +100,24 @@ public class ShellClientPlayerEntity extends OtherClientPlayerEntity {
         return this.shell.getVehicle();
     }
 
+    public ShellClientPlayerEntity bind(PlayerShellEntity shell) {
+        this.shell = shell;
+        this.updateData();
+        return this;
+    }
+
+    /**
+     * Copies the state of the bound shell into this delegate.
+     *
+     * <p>Delegates are shared by every shell of the same player, so any per-shell state must be copied here
+     * rather than written into the delegate when it changes.
+     */
     public void updateData() {
         this.copyPositionAndRotation(this.shell);
         this.hurtTime = this.shell.hurtTime;
         this.deathTime = this.shell.deathTime;
+        this.setStuckArrowCount(this.shell.getStuckArrowCount());
+        this.setStingerCount(this.shell.getStingerCount());
     }
 
     @Nullable
@@ -36,14 +36,15 @@ package ladysnake.pandemonium.common.entity;
 
 import com.mojang.authlib.GameProfile;
 import io.github.ladysnake.impersonate.Impersonator;
+import ladysnake.pandemonium.client.render.entity.ShellClientPlayerCache;
 import ladysnake.pandemonium.client.render.entity.ShellClientPlayerEntity;
 import ladysnake.pandemonium.common.PlayerSplitter;
-import ladysnake.pandemonium.mixin.common.entity.mob.LivingEntityAccessor;
 import ladysnake.pandemonium.mixin.common.entity.player.PlayerEntityAccessor;
 import ladysnake.requiem.api.v1.remnant.AttritionFocus;
 import ladysnake.requiem.common.util.InventoryHelper;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
+import net.fabricmc.fabric.api.util.NbtType;
 import net.minecraft.client.render.entity.PlayerModelPart;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityType;
@@ -79,6 +80,7 @@ import org.jetbrains.annotations.Nullable;
 import javax.annotation.CheckForNull;
 import java.util.EnumSet;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.apiguardian.api.API.Status.MAINTAINED;
@@ -96,7 +98,11 @@ public class PlayerShellEntity extends MobEntity {
     protected @Nullable SimpleInventory inventory;
     private @Nullable UUID playerUuid;
     /**
-     * The full NBT data representing the player when this shell was created
+     * The NBT data representing the player when this shell was created, minus what the shell itself keeps track of
+     *
+     * <p>This tag is only ever decoded when a player merges with this shell, and is otherwise written back as-is.
+     *
+     * @see #compactPlayerNbt(CompoundTag)
      */
     @Nullable
     protected CompoundTag playerNbt;
@@ -128,19 +134,24 @@ public class PlayerShellEntity extends MobEntity {
     @Nullable
     @Environment(EnvType.CLIENT)
     private ShellClientPlayerEntity renderedPlayer;
+    /**
+     * Decoded version of {@link #PLAYER_PROFILE}, invalidated whenever the tracked value changes
+     */
+    private @Nullable GameProfile gameProfile;
+    private boolean gameProfileDecoded;
 
     @Override
     public void onTrackedDataSet(TrackedData<?> key) {
+        if (PLAYER_PROFILE.equals(key)) {
+            this.gameProfileDecoded = false;
+        }
         if (this.world.isClient) {
             if (PLAYER_PROFILE.equals(key)) {
                 GameProfile profile = getGameProfile();
-                this.renderedPlayer = profile == null ? null : new ShellClientPlayerEntity(this, profile);
-            } else if (this.renderedPlayer != null) {
-                if (LivingEntityAccessor.getStuckArrowCountTrackedData().equals(key)) {
-                    this.renderedPlayer.setStuckArrowCount(this.getStuckArrowCount());
-                } else if (LivingEntityAccessor.getStuckStingerCountTrackedData().equals(key)) {
-                    this.renderedPlayer.setStingerCount(this.getStingerCount());
+                if (this.renderedPlayer != null) {
+                    ShellClientPlayerCache.release(this.renderedPlayer);
                 }
+                this.renderedPlayer = profile == null ? null : ShellClientPlayerCache.acquire(this, profile);
             }
         }
         super.onTrackedDataSet(key);
@@ -148,8 +159,11 @@ public class PlayerShellEntity extends MobEntity {
 
     @Nullable
     public GameProfile getGameProfile() {
-        CompoundTag tag = this.getDataTracker().get(PLAYER_PROFILE);
-        return NbtHelper.toGameProfile(tag);
+        if (!this.gameProfileDecoded) {
+            this.gameProfile = NbtHelper.toGameProfile(this.getDataTracker().get(PLAYER_PROFILE));
+            this.gameProfileDecoded = true;
+        }
+        return this.gameProfile;
     }
 
     public void setPlayerProfile(@CheckForNull GameProfile profile) {
@@ -188,7 +202,18 @@ public class PlayerShellEntity extends MobEntity {
     @Environment(EnvType.CLIENT)
     public ShellClientPlayerEntity getRenderedPlayer() {
         if (this.renderedPlayer == null) this.renderedPlayer = new ShellClientPlayerEntity(this, new GameProfile(UUID.randomUUID(), ""));
-        return this.renderedPlayer;
+        // the rendered player may be shared with other shells
+        return this.renderedPlayer.bind(this);
+    }
+
+    /**
+     * Gets a rendered player that is not shared with other shells, suitable for storing shell-specific data.
+     */
+    @Environment(EnvType.CLIENT)
+    public ShellClientPlayerEntity getOwnRenderedPlayer() {
+        ShellClientPlayerEntity renderedPlayer = this.getRenderedPlayer();
+        this.renderedPlayer = ShellClientPlayerCache.detach(this, renderedPlayer);
+        return this.renderedPlayer.bind(this);
     }
 
     public void setPlayerModelParts(byte b) {
@@ -219,7 +244,8 @@ public class PlayerShellEntity extends MobEntity {
         possessor.networkHandler.teleportRequest(this.getX(), this.getY(), this.getZ(), this.yaw, this.pitch, EnumSet.allOf(PlayerPositionLookS2CPacket.Flag.class));
         // restore the player to their previous state
         if (this.playerNbt != null) {
-            possessor.fromTag(this.playerNbt);
+            // the stored data is compact, fill in the blanks with the possessor's current data
+            performNbtCopy(this.playerNbt, possessor);
         }
         // override common data that may have been altered during this shell's existence
         possessor.inventory.clear();
@@ -234,7 +260,7 @@ public class PlayerShellEntity extends MobEntity {
     public void storePlayerData(ServerPlayerEntity player, CompoundTag respawnNbt) {
         // Save the complete representation of the player
         performNbtCopy(respawnNbt, this);
-        this.playerNbt = respawnNbt;
+        this.playerNbt = this.compactPlayerNbt(respawnNbt);
 
         // Transfer inventory
         InventoryHelper.transferEquipment(player, this);
@@ -250,6 +276,14 @@ public class PlayerShellEntity extends MobEntity {
         this.playerUuid = profile.getId();
     }
 
+    /**
+     * Strips the player data of everything that gets overwritten or discarded when merging back,
+     * as this shell already stores an up-to-date version of it.
+     */
+    private CompoundTag compactPlayerNbt(CompoundTag playerNbt) {
+        return ShellPlayerData.compact(playerNbt, PlayerSplitter.computeCopyNbt(this).getKeys());
+    }
+
     public void transferInventory(Inventory from, Inventory to, int size) {
         for (int i = 0; i < size; i++) {
             if (to.getStack(i).isEmpty()) {
@@ -362,10 +396,11 @@ public class PlayerShellEntity extends MobEntity {
     }
 
     @Override
-    public void tick() {
-        super.tick();
+    public void remove() {
+        super.remove();
         if (this.world.isClient && this.renderedPlayer != null) {
-            this.renderedPlayer.updateData();
+            ShellClientPlayerCache.release(this.renderedPlayer);
+            this.renderedPlayer = null;
         }
     }
 
@@ -450,13 +485,12 @@ public class PlayerShellEntity extends MobEntity {
             this.playerNbt = tag.getCompound("PlayerNbt");
         }
 
-        if (tag.contains("Player")) {
-            this.playerUuid = tag.getUuid("Player");
+        if (tag.contains("PlayerProfile", NbtType.COMPOUND)) {
+            // no need to decode the profile, clients do it when they receive it
+            this.getDataTracker().set(PLAYER_PROFILE, tag.getCompound("PlayerProfile"));
         }
 
-        if (tag.contains("PlayerProfile")) {
-            this.setPlayerProfile(NbtHelper.toGameProfile(tag.getCompound("PlayerProfile")));
-        }
+        this.playerUuid = ShellPlayerData.readPlayerUuid(tag, this.getDataTracker().get(PLAYER_PROFILE));
 
         setPlayerModelParts(tag.getByte("PlayerModelParts"));
 
@@ -488,13 +522,10 @@ public class PlayerShellEntity extends MobEntity {
             compound.put("Items", items);
             compound.putInt("InvSize", this.inventory.size());
         }
-        if (this.playerUuid != null) {
-            compound.putUuid("Player", this.playerUuid);
-        }
-        GameProfile gameProfile = this.getGameProfile();
-        if (gameProfile != null) {
-            compound.put("PlayerProfile", NbtHelper.fromGameProfile(new CompoundTag(), gameProfile));
+        if (this.playerNbt != null) {
+            compound.put("PlayerNbt", this.playerNbt);
         }
+        ShellPlayerData.writeIdentity(compound, this.getDataTracker().get(PLAYER_PROFILE), this.playerUuid);
         compound.putByte("PlayerModelParts", this.getPlayerModelParts());
 
         if (!this.getShoulderEntityLeft().isEmpty()) {
@@ -0,0 +1,96 @@
+/*
+ * Requiem
+ * Copyright (C) 2017-2021 Ladysnake
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses>.
+ *
+ * Linking this mod statically or dynamically with other
+ * modules is making a combined work based on this mod.
+ * Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *
+ * In addition, as a special exception, the copyright holders of
+ * this mod give you permission to combine this mod
+ * with free software programs or libraries that are released under the GNU LGPL
+ * and with code included in the standard release of Minecraft under All Rights Reserved (or
+ * modified versions of such code, with unchanged license).
+ * You may copy and distribute such a system following the terms of the GNU GPL for this mod
+ * and the licenses of the other code concerned.
+ *
+ * Note that people who make modified versions of this mod are not obligated to grant
+ * this special exception for their modified versions; it is their choice whether to do so.
+ * The GNU General Public License gives permission to release a modified version without this exception;
+ * this exception also makes it possible to release a modified version which carries forward this exception.
+ */
+package ladysnake.pandemonium.common.entity;
+
+import nerdhub.cardinal.components.api.util.container.AbstractComponentContainer;
+import net.minecraft.nbt.CompoundTag;
+
+import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Compact serialization of the player data stored on a {@link PlayerShellEntity}.
+ */
+final class ShellPlayerData {
+    private ShellPlayerData() { throw new AssertionError(); }
+
+    /**
+     * Strips player data of everything that gets overwritten or discarded when merging back.
+     *
+     * @param playerNbt the full player data, modified in place
+     * @param shellKeys the keys the shell already stores an up-to-date version of
+     * @return {@code playerNbt}
+     */
+    static CompoundTag compact(CompoundTag playerNbt, Collection<String> shellKeys) {
+        for (String key : shellKeys) {
+            // components get merged rather than replaced, player-specific ones still need to be restored
+            if (!AbstractComponentContainer.NBT_KEY.equals(key)) {
+                playerNbt.remove(key);
+            }
+        }
+        // the inventory gets cleared after restoring, its content lives in the shell's own inventory
+        playerNbt.remove("Inventory");
+        return playerNbt;
+    }
+
+    /**
+     * Writes the profile of the player that left a shell, and its UUID if the profile does not already hold it.
+     */
+    static void writeIdentity(CompoundTag compound, CompoundTag profileTag, @Nullable UUID playerUuid) {
+        if (!profileTag.isEmpty()) {
+            // the tracked tag is never mutated, so it can be shared as-is
+            compound.put("PlayerProfile", profileTag);
+        }
+        if (playerUuid != null && !playerUuid.equals(getProfileId(profileTag))) {
+            compound.putUuid("Player", playerUuid);
+        }
+    }
+
+    /**
+     * Reads the UUID written by {@link #writeIdentity(CompoundTag, CompoundTag, UUID)}.
+     */
+    static @Nullable UUID readPlayerUuid(CompoundTag compound, CompoundTag profileTag) {
+        if (compound.containsUuid("Player")) {
+            return compound.getUuid("Player");
+        }
+        // compact shells only store the profile's id
+        return getProfileId(profileTag);
+    }
+
+    static @Nullable UUID getProfileId(CompoundTag profileTag) {
+        return profileTag.containsUuid("Id") ? profileTag.getUuid("Id") : null;
+    }
+}
@@ -43,22 +43,29 @@ import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.mob.EvokerEntity;
 import net.minecraft.entity.mob.SpellcastingIllagerEntity;
 
-import java.lang.reflect.Constructor;
+import javax.annotation.Nullable;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.function.Function;
 
 public class EvokerFangAbility extends DirectAbilityBase<EvokerEntity, LivingEntity> {
-    private static final Constructor<? extends SpellcastingIllagerEntity.CastSpellGoal> FANGS_GOAL_FACTORY;
+    private static final Function<EvokerEntity, SpellcastingIllagerEntity.CastSpellGoal> FANGS_GOAL_FACTORY;
     private static final Method CAST_SPELL_GOAL$CAST_SPELL;
     public static final int FANG_COOLDOWN = 40;
     public static final int HOSTILE_TIME = 200;
 
-    private final SpellcastingIllagerEntity.CastSpellGoal conjureFangsGoal;
+    private @Nullable SpellcastingIllagerEntity.CastSpellGoal conjureFangsGoal;
     private int hostileTime;
 
     public EvokerFangAbility(EvokerEntity owner) {
         super(owner, FANG_COOLDOWN, 12, LivingEntity.class);
-        conjureFangsGoal = makeGoal(owner);
+    }
+
+    private SpellcastingIllagerEntity.CastSpellGoal getConjureFangsGoal() {
+        if (this.conjureFangsGoal == null) {
+            this.conjureFangsGoal = FANGS_GOAL_FACTORY.apply(this.owner);
+        }
+        return this.conjureFangsGoal;
     }
 
     @Override
@@ -73,7 +80,7 @@ public class EvokerFangAbility extends DirectAbilityBase<EvokerEntity, LivingEnt
         // We are not resetting the target afterwards, as the vexes need it
         this.owner.setTarget(entity);
 
-        if (this.conjureFangsGoal.canStart()) {
+        if (this.getConjureFangsGoal().canStart()) {
             this.castSpell();
             this.owner.setSpell(SpellcastingIllagerEntity.Spell.FANGS);
             this.beginCooldown();
@@ -98,7 +105,7 @@ public class EvokerFangAbility extends DirectAbilityBase<EvokerEntity, LivingEnt
 
     private void castSpell() {
         try {
-            CAST_SPELL_GOAL$CAST_SPELL.invoke(conjureFangsGoal);
+            CAST_SPELL_GOAL$CAST_SPELL.invoke(this.getConjureFangsGoal());
         } catch (IllegalAccessException | InvocationTargetException e) {
             throw new UncheckedReflectionException("Failed to trigger evoker fang ability", e);
         }
@@ -111,26 +118,15 @@ public class EvokerFangAbility extends DirectAbilityBase<EvokerEntity, LivingEnt
         }
     }
 
-    private static SpellcastingIllagerEntity.CastSpellGoal makeGoal(EvokerEntity owner) {
-        try {
-            return FANGS_GOAL_FACTORY.newInstance(owner);
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
-            throw new UncheckedReflectionException(e);
-        }
-    }
-
     static {
         try {
             CAST_SPELL_GOAL$CAST_SPELL = ReflectionHelper.findMethodFromIntermediary(SpellcastingIllagerEntity.CastSpellGoal.class, "method_7148", void.class);
             Class<? extends SpellcastingIllagerEntity.CastSpellGoal> clazz = ReflectionHelper.findClass("net.minecraft.class_1564$class_1565");
-            FANGS_GOAL_FACTORY = clazz.getDeclaredConstructor(EvokerEntity.class);
-            FANGS_GOAL_FACTORY.setAccessible(true);
+            FANGS_GOAL_FACTORY = ReflectionHelper.createConstructorFactory(clazz, EvokerEntity.class);
         } catch (ClassNotFoundException e) {
             throw new UncheckedReflectionException("Could not find the ConjureFangsGoal class", e);
         } catch (UnableToFindMethodException e) {
             throw new UncheckedReflectionException("Could not find the castSpell method", e);
-        } catch (NoSuchMethodException e) {
-            throw new UncheckedReflectionException("Could not find the ConjureFangsGoal constructor", e);
         }
     }
 }
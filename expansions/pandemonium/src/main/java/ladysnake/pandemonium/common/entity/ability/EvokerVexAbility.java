@@ -40,22 +40,24 @@ import ladysnake.requiem.common.util.reflection.UncheckedReflectionException;
 import net.minecraft.entity.mob.EvokerEntity;
 import net.minecraft.entity.mob.SpellcastingIllagerEntity;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
+import javax.annotation.Nullable;
+import java.util.function.Function;
 
 public class EvokerVexAbility extends IndirectAbilityBase<EvokerEntity> {
-    private static final Constructor<? extends SpellcastingIllagerEntity.CastSpellGoal> VEX_GOAL_FACTORY;
+    private static final Function<EvokerEntity, SpellcastingIllagerEntity.CastSpellGoal> VEX_GOAL_FACTORY;
 
-    private final SpellcastingIllagerEntity.CastSpellGoal summonVexGoal;
+    private @Nullable SpellcastingIllagerEntity.CastSpellGoal summonVexGoal;
     private boolean started;
 
     public EvokerVexAbility(EvokerEntity owner) {
         super(owner, 0);
-        try {
-            summonVexGoal = VEX_GOAL_FACTORY.newInstance(owner);
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
-            throw new UncheckedReflectionException("Failed to instanciate SummonVexGoal", e);
+    }
+
+    private SpellcastingIllagerEntity.CastSpellGoal getSummonVexGoal() {
+        if (this.summonVexGoal == null) {
+            this.summonVexGoal = VEX_GOAL_FACTORY.apply(this.owner);
         }
+        return this.summonVexGoal;
     }
 
     @Override
@@ -66,8 +68,9 @@ public class EvokerVexAbility extends IndirectAbilityBase<EvokerEntity> {
         if (!hasTarget) owner.setTarget(owner); // Need to have some kind of target to cast the spell
 
         try {
-            if (this.summonVexGoal.canStart()) {
-                this.summonVexGoal.start();
+            SpellcastingIllagerEntity.CastSpellGoal summonVexGoal = this.getSummonVexGoal();
+            if (summonVexGoal.canStart()) {
+                summonVexGoal.start();
                 this.started = true;
                 this.beginCooldown();
                 return true;
@@ -87,11 +90,12 @@ public class EvokerVexAbility extends IndirectAbilityBase<EvokerEntity> {
             if (!hasTarget) owner.setTarget(owner); // Need to have some kind of target to cast the spell
 
             try {
+                SpellcastingIllagerEntity.CastSpellGoal summonVexGoal = this.getSummonVexGoal();
                 if (summonVexGoal.shouldContinue()) {
                     summonVexGoal.tick();
                 } else {
                     started = false;
-                    this.summonVexGoal.stop();
+                    summonVexGoal.stop();
                     owner.setSpell(SpellcastingIllagerEntity.Spell.NONE);
                 }
             } finally {
@@ -103,12 +107,9 @@ public class EvokerVexAbility extends IndirectAbilityBase<EvokerEntity> {
     static {
         try {
             Class<? extends SpellcastingIllagerEntity.CastSpellGoal> clazz = ReflectionHelper.findClass("net.minecraft.class_1564$class_1567");
-            VEX_GOAL_FACTORY = clazz.getDeclaredConstructor(EvokerEntity.class);
-            VEX_GOAL_FACTORY.setAccessible(true);
+            VEX_GOAL_FACTORY = ReflectionHelper.createConstructorFactory(clazz, EvokerEntity.class);
         } catch (ClassNotFoundException e) {
             throw new UncheckedReflectionException("Could not find the SummonVexGoal class", e);
-        } catch (NoSuchMethodException e) {
-            throw new UncheckedReflectionException("Could not get the SummonVexGoal constructor", e);
         }
     }
 }
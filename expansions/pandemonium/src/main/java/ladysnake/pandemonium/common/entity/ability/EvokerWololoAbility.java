@@ -44,19 +44,25 @@ import net.minecraft.entity.passive.SheepEntity;
 import org.jetbrains.annotations.Nullable;
 
 public class EvokerWololoAbility extends DirectAbilityBase<EvokerEntity, Entity> {
-    private final CustomWololoGoal wololoGoal;
+    private @Nullable CustomWololoGoal wololoGoal;
     private boolean started;
 
     public EvokerWololoAbility(EvokerEntity owner) {
         super(owner, 0, 16, Entity.class);
-        this.wololoGoal = new CustomWololoGoal(owner);
+    }
+
+    private CustomWololoGoal getWololoGoal() {
+        if (this.wololoGoal == null) {
+            this.wololoGoal = new CustomWololoGoal(this.owner);
+        }
+        return this.wololoGoal;
     }
 
     @Override
     public boolean canTarget(Entity target) {
         if (!super.canTarget(target)) return false;
         if (target instanceof SheepEntity) {
-            return this.wololoGoal.requiem_getConvertibleSheepPredicate().test(null, (SheepEntity) target);
+            return this.getWololoGoal().requiem_getConvertibleSheepPredicate().test(null, (SheepEntity) target);
         }
         return WololoComponent.canBeConverted(target);
     }
@@ -65,15 +71,16 @@ public class EvokerWololoAbility extends DirectAbilityBase<EvokerEntity, Entity>
     public boolean run(Entity target) {
         if (this.owner.world.isClient) return true;
 
-        this.wololoGoal.target = target;
+        CustomWololoGoal wololoGoal = this.getWololoGoal();
+        wololoGoal.target = target;
 
-        if (this.wololoGoal.canStart()) {
-            this.wololoGoal.start();
+        if (wololoGoal.canStart()) {
+            wololoGoal.start();
             this.beginCooldown();
             this.started = true;
             return true;
         } else {
-            this.wololoGoal.target = null;
+            wololoGoal.target = null;
             return false;
         }
     }
@@ -82,11 +89,12 @@ public class EvokerWololoAbility extends DirectAbilityBase<EvokerEntity, Entity>
     public void update() {
         super.update();
         if (this.started) {
-            if (this.wololoGoal.shouldContinue()) {
-                this.wololoGoal.tick();
+            CustomWololoGoal wololoGoal = this.getWololoGoal();
+            if (wololoGoal.shouldContinue()) {
+                wololoGoal.tick();
             } else {
                 this.started = false;
-                this.wololoGoal.stop();
+                wololoGoal.stop();
                 this.owner.setSpell(SpellcastingIllagerEntity.Spell.NONE);
             }
         }
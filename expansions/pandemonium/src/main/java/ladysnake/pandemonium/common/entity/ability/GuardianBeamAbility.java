@@ -41,33 +41,21 @@ import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.ai.goal.Goal;
 import net.minecraft.entity.mob.GuardianEntity;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
+import java.util.function.Function;
 
 public class GuardianBeamAbility extends TickingGoalAbility<GuardianEntity, LivingEntity> {
-    public GuardianBeamAbility(GuardianEntity owner) {
-        super(owner, makeGoal(owner), 20*4, 15, LivingEntity.class);
-    }
-
-    private static final Constructor<? extends Goal> BEAM_GOAL_FACTORY;
+    private static final Function<GuardianEntity, Goal> BEAM_GOAL_FACTORY;
 
-    private static Goal makeGoal(GuardianEntity owner) {
-        try {
-            return BEAM_GOAL_FACTORY.newInstance(owner);
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
-            throw new UncheckedReflectionException("Failed to instantiate FireBeamGoal", e);
-        }
+    public GuardianBeamAbility(GuardianEntity owner) {
+        super(owner, BEAM_GOAL_FACTORY, 20*4, 15, LivingEntity.class);
     }
 
     static {
         try {
             Class<? extends Goal> clazz = ReflectionHelper.findClass("net.minecraft.class_1577$class_1578");
-            BEAM_GOAL_FACTORY = clazz.getDeclaredConstructor(GuardianEntity.class);
-            BEAM_GOAL_FACTORY.setAccessible(true);
+            BEAM_GOAL_FACTORY = ReflectionHelper.createConstructorFactory(clazz, GuardianEntity.class);
         } catch (ClassNotFoundException e) {
             throw new UncheckedReflectionException("Could not find the FireBeamGoal class", e);
-        } catch (NoSuchMethodException e) {
-            throw new UncheckedReflectionException("Could not find the FireBeamGoal constructor", e);
         }
     }
 }
@@ -37,6 +37,11 @@ package ladysnake.pandemonium.common.impl.anchor;
 import dev.onyxstudios.cca.api.v3.component.sync.AutoSyncedComponent;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import ladysnake.pandemonium.api.anchor.FractureAnchor;
 import ladysnake.pandemonium.api.anchor.FractureAnchorFactory;
 import ladysnake.pandemonium.api.anchor.FractureAnchorManager;
@@ -47,20 +52,47 @@ import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.network.PacketByteBuf;
 import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerChunkManager;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
+/**
+ * Default {@link FractureAnchorManager} implementation.
+ *
+ * <p>Anchors are bucketed by the chunk they are in, so that only anchors in loaded chunks get updated.
+ * On the server, position changes and removals are buffered and sent once per tick:
+ * players within view distance of a moved anchor get the move on the same tick,
+ * while everyone else receives coalesced positions every {@link #FAR_SYNC_INTERVAL} ticks.
+ */
 public class CommonAnchorManager implements FractureAnchorManager, AutoSyncedComponent {
     public static final byte ANCHOR_SYNC = 0;
     public static final byte ANCHOR_REMOVE = 1;
+    public static final int FAR_SYNC_INTERVAL = 20;
 
     private final Map<UUID, FractureAnchor> anchorsByUuid = new HashMap<>();
     private final Int2ObjectMap<FractureAnchor> anchorsById = new Int2ObjectOpenHashMap<>();
+    private final Long2ObjectMap<List<FractureAnchor>> anchorsByChunk = new Long2ObjectOpenHashMap<>();
+    private final Object2LongMap<FractureAnchor> anchorChunks = new Object2LongOpenHashMap<>();
+    /**Anchors that changed chunks since the last update, and need to be moved to another bucket*/
+    private final Set<FractureAnchor> rebucketedAnchors = new ReferenceOpenHashSet<>();
+    /**Anchors that moved since the last update*/
+    private final Set<FractureAnchor> movedAnchors = new ReferenceOpenHashSet<>();
+    /**Anchors that moved since the last far sync*/
+    private final Set<FractureAnchor> farMovedAnchors = new ReferenceOpenHashSet<>();
+    private final List<FractureAnchor> removedAnchors = new ArrayList<>();
     private final World world;
     private int nextId;
 
@@ -77,6 +109,7 @@ public class CommonAnchorManager implements FractureAnchorManager, AutoSyncedCom
         FractureAnchor anchor = anchorFactory.create(this, uuid, id);
         anchorsByUuid.put(anchor.getUuid(), anchor);
         anchorsById.put(anchor.getId(), anchor);
+        this.addToBucket(anchor, getChunkKey(anchor));
 
         return anchor;
     }
@@ -94,16 +127,142 @@ public class CommonAnchorManager implements FractureAnchorManager, AutoSyncedCom
         return this.anchorsById.values();
     }
 
+    /**
+     * Called by anchors of this manager when their position changes.
+     */
+    public void onAnchorMoved(FractureAnchor anchor) {
+        if (!this.anchorChunks.containsKey(anchor)) return;  // not registered yet, or already removed
+
+        if (this.anchorChunks.getLong(anchor) != getChunkKey(anchor)) {
+            this.rebucketedAnchors.add(anchor);
+        }
+        if (anchor instanceof TrackedFractureAnchor && !this.world.isClient) {
+            this.movedAnchors.add(anchor);
+            this.farMovedAnchors.add(anchor);
+        }
+    }
+
+    /**
+     * Called by anchors of this manager when they get invalidated.
+     */
+    public void onAnchorInvalidated(FractureAnchor anchor) {
+        this.removedAnchors.add(anchor);
+    }
+
     @Override
     public void updateAnchors(long time) {
-        this.anchorsById.values().removeIf(anchor -> {
-            anchor.update();
-            if (anchor.isInvalid()) {
-                this.anchorsByUuid.remove(anchor.getUuid());
-                return true;
+        if (this.world instanceof ServerWorld) {
+            ServerChunkManager chunkManager = ((ServerWorld) this.world).getChunkManager();
+            for (Long2ObjectMap.Entry<List<FractureAnchor>> bucket : this.anchorsByChunk.long2ObjectEntrySet()) {
+                long chunkPos = bucket.getLongKey();
+                if (chunkManager.isChunkLoaded(ChunkPos.getPackedX(chunkPos), ChunkPos.getPackedZ(chunkPos))) {
+                    for (FractureAnchor anchor : bucket.getValue()) {
+                        anchor.update();
+                    }
+                }
+            }
+        }
+
+        for (FractureAnchor anchor : this.rebucketedAnchors) {
+            if (this.anchorChunks.containsKey(anchor)) {
+                this.removeFromBucket(anchor, this.anchorChunks.getLong(anchor));
+                this.addToBucket(anchor, getChunkKey(anchor));
+            }
+        }
+        this.rebucketedAnchors.clear();
+
+        for (FractureAnchor anchor : this.removedAnchors) {
+            if (this.anchorChunks.containsKey(anchor)) {
+                this.removeFromBucket(anchor, this.anchorChunks.removeLong(anchor));
+                // the id may have been reused by a newer anchor in the meantime
+                if (this.anchorsById.get(anchor.getId()) == anchor) this.anchorsById.remove(anchor.getId());
+                if (this.anchorsByUuid.get(anchor.getUuid()) == anchor) this.anchorsByUuid.remove(anchor.getUuid());
+            }
+            this.movedAnchors.remove(anchor);
+            this.farMovedAnchors.remove(anchor);
+        }
+
+        if (this.world instanceof ServerWorld) {
+            this.flushUpdates((ServerWorld) this.world, time % FAR_SYNC_INTERVAL == 0);
+        }
+        this.removedAnchors.clear();
+        this.movedAnchors.clear();
+    }
+
+    private void flushUpdates(ServerWorld world, boolean farSync) {
+        boolean hasMoves = !this.movedAnchors.isEmpty() || farSync && !this.farMovedAnchors.isEmpty();
+
+        // Most ticks have nothing to send
+        if (this.removedAnchors.isEmpty() && !hasMoves) {
+            return;
+        }
+
+        List<FractureAnchor> removed = this.getTrackedRemovals();
+
+        if (removed.isEmpty() && !hasMoves) {
+            return;
+        }
+
+        int viewDistance = world.getServer().getPlayerManager().getViewDistance();
+        Map<ServerPlayerEntity, Collection<FractureAnchor>> moved = new IdentityHashMap<>();
+        for (ServerPlayerEntity player : world.getPlayers()) {
+            Collection<FractureAnchor> seen;
+            if (farSync) {
+                seen = this.farMovedAnchors;
+            } else {
+                seen = new ArrayList<>();
+                int playerChunkX = MathHelper.floor(player.getX()) >> 4;
+                int playerChunkZ = MathHelper.floor(player.getZ()) >> 4;
+                for (FractureAnchor anchor : this.movedAnchors) {
+                    long chunkPos = getChunkKey(anchor);
+                    if (Math.abs(ChunkPos.getPackedX(chunkPos) - playerChunkX) <= viewDistance
+                        && Math.abs(ChunkPos.getPackedZ(chunkPos) - playerChunkZ) <= viewDistance) {
+                        seen.add(anchor);
+                    }
+                }
+            }
+            if (!seen.isEmpty() || !removed.isEmpty()) {
+                moved.put(player, seen);
+            }
+        }
+
+        if (!moved.isEmpty()) {
+            KEY.sync(world, (buf, p) -> writeUpdatePacket(buf, moved.get(p), removed), moved::containsKey);
+        }
+
+        if (farSync) {
+            this.farMovedAnchors.clear();
+        }
+    }
+
+    private List<FractureAnchor> getTrackedRemovals() {
+        List<FractureAnchor> removed = Collections.emptyList();
+        for (FractureAnchor anchor : this.removedAnchors) {
+            if (anchor instanceof TrackedFractureAnchor) {
+                if (removed.isEmpty()) removed = new ArrayList<>();
+                removed.add(anchor);
             }
-            return false;
-        });
+        }
+        return removed;
+    }
+
+    private void addToBucket(FractureAnchor anchor, long chunkPos) {
+        this.anchorsByChunk.computeIfAbsent(chunkPos, k -> new ArrayList<>()).add(anchor);
+        this.anchorChunks.put(anchor, chunkPos);
+    }
+
+    private void removeFromBucket(FractureAnchor anchor, long chunkPos) {
+        List<FractureAnchor> bucket = this.anchorsByChunk.get(chunkPos);
+        if (bucket != null) {
+            bucket.remove(anchor);
+            if (bucket.isEmpty()) {
+                this.anchorsByChunk.remove(chunkPos);
+            }
+        }
+    }
+
+    private static long getChunkKey(FractureAnchor anchor) {
+        return ChunkPos.toLong(MathHelper.floor(anchor.getX()) >> 4, MathHelper.floor(anchor.getZ()) >> 4);
     }
 
     @Nullable
@@ -135,6 +294,16 @@ public class CommonAnchorManager implements FractureAnchorManager, AutoSyncedCom
 
     public static void writeToPacket(PacketByteBuf buf, Collection<FractureAnchor> anchors, byte action) {
         buf.writeVarInt(anchors.size());
+        writeEntries(buf, anchors, action);
+    }
+
+    private static void writeUpdatePacket(PacketByteBuf buf, Collection<FractureAnchor> moved, Collection<FractureAnchor> removed) {
+        buf.writeVarInt(moved.size() + removed.size());
+        writeEntries(buf, moved, ANCHOR_SYNC);
+        writeEntries(buf, removed, ANCHOR_REMOVE);
+    }
+
+    private static void writeEntries(PacketByteBuf buf, Collection<FractureAnchor> anchors, byte action) {
         for (FractureAnchor anchor : anchors) {
             buf.writeVarInt(anchor.getId());
             buf.writeByte(action);
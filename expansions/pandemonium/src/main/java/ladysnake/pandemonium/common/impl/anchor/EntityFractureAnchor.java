@@ -45,6 +45,8 @@ import java.util.UUID;
 
 public class EntityFractureAnchor extends TrackedFractureAnchor {
     private final UUID entityUuid;
+    /**The last entity found for {@link #entityUuid}, only valid as long as it stays in the anchor's world*/
+    private @Nullable Entity cachedEntity;
 
     public EntityFractureAnchor(UUID entityUuid, FractureAnchorManager manager, UUID uuid, int id) {
         super(checkSide(manager), uuid, id);
@@ -81,7 +83,13 @@ public class EntityFractureAnchor extends TrackedFractureAnchor {
 
     @Nullable
     public Entity getEntity() {
-        return ((ServerWorld)this.manager.getWorld()).getEntity(this.entityUuid);
+        Entity cached = this.cachedEntity;
+        if (cached != null && !cached.removed && cached.world == this.manager.getWorld()) {
+            return cached;
+        }
+        Entity entity = ((ServerWorld)this.manager.getWorld()).getEntity(this.entityUuid);
+        this.cachedEntity = entity;
+        return entity;
     }
 
     @Override
@@ -89,6 +89,9 @@ public class InertFractureAnchor implements FractureAnchor {
         this.x = x;
         this.y = y;
         this.z = z;
+        if (this.manager instanceof CommonAnchorManager) {
+            ((CommonAnchorManager) this.manager).onAnchorMoved(this);
+        }
     }
 
     @Override
@@ -98,7 +101,12 @@ public class InertFractureAnchor implements FractureAnchor {
 
     @Override
     public void invalidate() {
-        this.invalid = true;
+        if (!this.invalid) {
+            this.invalid = true;
+            if (this.manager instanceof CommonAnchorManager) {
+                ((CommonAnchorManager) this.manager).onAnchorInvalidated(this);
+            }
+        }
     }
 
     @Override
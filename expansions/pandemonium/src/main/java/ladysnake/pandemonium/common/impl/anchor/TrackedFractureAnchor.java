@@ -37,9 +37,13 @@ package ladysnake.pandemonium.common.impl.anchor;
 import ladysnake.pandemonium.api.anchor.FractureAnchorManager;
 import net.minecraft.nbt.CompoundTag;
 
-import java.util.Collections;
 import java.util.UUID;
 
+/**
+ * A fracture anchor that gets synchronized with clients.
+ *
+ * @see CommonAnchorManager#onAnchorMoved(ladysnake.pandemonium.api.anchor.FractureAnchor)
+ */
 public class TrackedFractureAnchor extends InertFractureAnchor {
     public TrackedFractureAnchor(FractureAnchorManager manager, UUID uuid, int id) {
         super(manager, uuid, id);
@@ -49,20 +53,6 @@ public class TrackedFractureAnchor extends InertFractureAnchor {
         super(manager, tag, id);
     }
 
-    @Override
-    public void setPosition(double x, double y, double z) {
-        super.setPosition(x, y, z);
-        FractureAnchorManager.KEY.sync(this.manager.getWorld(),
-            (buf, p) -> CommonAnchorManager.writeToPacket(buf, Collections.singleton(this), CommonAnchorManager.ANCHOR_SYNC));
-    }
-
-    @Override
-    public void invalidate() {
-        super.invalidate();
-        FractureAnchorManager.KEY.sync(this.manager.getWorld(),
-            (buf, p) -> CommonAnchorManager.writeToPacket(buf, Collections.singleton(this), CommonAnchorManager.ANCHOR_REMOVE));
-    }
-
     @Override
     public CompoundTag toTag(CompoundTag anchorTag) {
         super.toTag(anchorTag);
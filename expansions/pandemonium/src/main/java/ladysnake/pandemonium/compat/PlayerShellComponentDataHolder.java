@@ -67,7 +67,7 @@ public class PlayerShellComponentDataHolder<C extends ComponentV3> extends Compo
     public void applySyncPacket(PacketByteBuf buf) {
         CompoundTag originData = buf.readCompoundTag();
         if (originData != null) {
-            this.dataKey.get(this.shell.getRenderedPlayer()).readFromNbt(originData);
+            this.dataKey.get(this.shell.getOwnRenderedPlayer()).readFromNbt(originData);
         }
     }
 }
@@ -0,0 +1,110 @@
+/*
+ * Requiem
+ * Copyright (C) 2017-2021 Ladysnake
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses>.
+ *
+ * Linking this mod statically or dynamically with other
+ * modules is making a combined work based on this mod.
+ * Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *
+ * In addition, as a special exception, the copyright holders of
+ * this mod give you permission to combine this mod
+ * with free software programs or libraries that are released under the GNU LGPL
+ * and with code included in the standard release of Minecraft under All Rights Reserved (or
+ * modified versions of such code, with unchanged license).
+ * You may copy and distribute such a system following the terms of the GNU GPL for this mod
+ * and the licenses of the other code concerned.
+ *
+ * Note that people who make modified versions of this mod are not obligated to grant
+ * this special exception for their modified versions; it is their choice whether to do so.
+ * The GNU General Public License gives permission to release a modified version without this exception;
+ * this exception also makes it possible to release a modified version which carries forward this exception.
+ */
+package ladysnake.pandemonium.common.entity;
+
+import nerdhub.cardinal.components.api.util.container.AbstractComponentContainer;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ShellPlayerDataTest {
+    private static final UUID PROFILE_ID = UUID.fromString("3f2b6a3c-8a0d-4a5e-9a34-0c1f6f9f2b11");
+
+    private static CompoundTag profile() {
+        CompoundTag profile = new CompoundTag();
+        profile.putUuid("Id", PROFILE_ID);
+        profile.putString("Name", "Steve");
+        return profile;
+    }
+
+    @Test
+    void compactDropsShellKeysAndInventory() {
+        CompoundTag playerNbt = new CompoundTag();
+        playerNbt.putFloat("Health", 20);
+        playerNbt.put("Inventory", new ListTag());
+        playerNbt.putInt("XpLevel", 30);
+        playerNbt.put(AbstractComponentContainer.NBT_KEY, new CompoundTag());
+
+        CompoundTag compact = ShellPlayerData.compact(playerNbt, Arrays.asList("Health", AbstractComponentContainer.NBT_KEY));
+
+        assertSame(playerNbt, compact);
+        assertFalse(compact.contains("Health"));
+        assertFalse(compact.contains("Inventory"));
+        assertTrue(compact.contains("XpLevel"));
+        // components are merged on restore, so they must survive
+        assertTrue(compact.contains(AbstractComponentContainer.NBT_KEY));
+    }
+
+    @Test
+    void identityRoundTripOmitsUuidMatchingProfile() {
+        CompoundTag profile = profile();
+        CompoundTag saved = new CompoundTag();
+
+        ShellPlayerData.writeIdentity(saved, profile, PROFILE_ID);
+
+        assertFalse(saved.containsUuid("Player"));
+        assertEquals(profile, saved.getCompound("PlayerProfile"));
+        assertEquals(PROFILE_ID, ShellPlayerData.readPlayerUuid(saved, saved.getCompound("PlayerProfile")));
+    }
+
+    @Test
+    void identityRoundTripKeepsDifferentUuid() {
+        UUID playerUuid = UUID.fromString("0b7f7a58-1b9c-4f4e-8f0e-7f4a1c2d3e4f");
+        CompoundTag saved = new CompoundTag();
+
+        ShellPlayerData.writeIdentity(saved, profile(), playerUuid);
+
+        assertEquals(playerUuid, ShellPlayerData.readPlayerUuid(saved, saved.getCompound("PlayerProfile")));
+    }
+
+    @Test
+    void identityRoundTripWithoutProfile() {
+        UUID playerUuid = UUID.randomUUID();
+        CompoundTag saved = new CompoundTag();
+
+        ShellPlayerData.writeIdentity(saved, new CompoundTag(), playerUuid);
+
+        assertFalse(saved.contains("PlayerProfile"));
+        assertEquals(playerUuid, ShellPlayerData.readPlayerUuid(saved, saved.getCompound("PlayerProfile")));
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Requiem
+ * Copyright (C) 2017-2021 Ladysnake
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; If not, see <https://www.gnu.org/licenses>.
+ */
+package ladysnake.requiem.api.v1.entity;
+
+import ladysnake.requiem.api.v1.internal.ApiInternals;
+import net.minecraft.entity.EntityType;
+import net.minecraft.util.Identifier;
+
+/**
+ * Traits given to entity types through Requiem's entity type tags.
+ *
+ * <p>Traits of every entity type are computed once each time tags get loaded or synced,
+ * which makes checking them much cheaper than querying the corresponding tags.
+ *
+ * @since 1.6.0
+ */
+public enum EntityTrait {
+    DICHROMAT("vision/dichromats"),
+    TETRACHROMAT("vision/tetrachromats"),
+    POSSESSION_BLACKLISTED("possession/possession_blacklist"),
+    POSSESSABLE("possession/possessables"),
+    FRICTIONLESS_HOST("possession/frictionless_hosts"),
+    ARMOR_BANNED("inventory/armor_banned"),
+    ARMOR_USER("inventory/armor_users"),
+    ITEM_USER("inventory/item_users"),
+    INVENTORY_CARRIER("inventory/inventory_carriers"),
+    SUPERCRAFTER("inventory/supercrafters"),
+    IMMOVABLE("behavior/immovable"),
+    REGULAR_EATER("behavior/regular_eaters"),
+    REPLACEABLE_SKELETON("transformation/replaceable_skeletons"),
+    SKELETON("skeletons"),
+    ZOMBIE("zombies"),
+    GOLEM("golems"),
+    PIGLIN("piglins");
+
+    private final Identifier tagId;
+    private final long mask;
+
+    EntityTrait(String tagPath) {
+        this.tagId = new Identifier("requiem", tagPath);
+        this.mask = 1L << this.ordinal();
+    }
+
+    /**
+     * Returns every trait of an entity type, as a bit mask.
+     *
+     * @param type the entity type to check
+     * @return a bit mask in which each trait of {@code type} has its {@link #getMask() mask} set
+     */
+    public static long getTraits(EntityType<?> type) {
+        return ApiInternals.getEntityTraits(type);
+    }
+
+    /**
+     * @return the id of the entity type tag that gives this trait
+     */
+    public Identifier getTagId() {
+        return this.tagId;
+    }
+
+    /**
+     * @return the bit corresponding to this trait in {@link #getTraits(EntityType)}
+     */
+    public long getMask() {
+        return this.mask;
+    }
+
+    /**
+     * @param type the entity type to check
+     * @return {@code true} if {@code type} is in the tag corresponding to this trait
+     */
+    public boolean isIn(EntityType<?> type) {
+        return (getTraits(type) & this.mask) != 0;
+    }
+}
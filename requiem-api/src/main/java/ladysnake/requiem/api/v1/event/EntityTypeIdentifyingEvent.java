@@ -0,0 +1,119 @@
+/*
+ * Requiem
+ * Copyright (C) 2017-2021 Ladysnake
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; If not, see <https://www.gnu.org/licenses>.
+ */
+package ladysnake.requiem.api.v1.event;
+
+import net.minecraft.entity.EntityType;
+import net.minecraft.tag.ServerTagManagerHolder;
+import net.minecraft.tag.TagManager;
+import net.minecraft.util.Identifier;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * An {@link IdentifyingEvent} whose listeners can declare the entity types they care about.
+ *
+ * <p>Callers that know the type of the entity involved should use {@link #invoker(EntityType)},
+ * which only runs the relevant listeners. Per-type listener chains are computed lazily, preserve
+ * registration order, and get recomputed whenever listeners change or tags get reloaded.
+ * The regular {@link #invoker()} still runs every listener.
+ *
+ * @param <T> The listener type.
+ * @since 1.6.0
+ */
+public class EntityTypeIdentifyingEvent<T> extends IdentifyingEvent<T> {
+    private final Map<Identifier, Predicate<EntityType<?>>> filters = new HashMap<>();
+    private volatile ChainCache<T> chains = new ChainCache<>(null);
+
+    public EntityTypeIdentifyingEvent(Class<T> type, Function<T[], T> invokerFactory) {
+        super(type, invokerFactory);
+    }
+
+    /**
+     * Registers a listener that only gets invoked for entities matching the given filter.
+     *
+     * <p>The filter gets evaluated once per entity type and per tag reload,
+     * so it may rely on tags but should not depend on any other mutable state.
+     *
+     * @param id       the identifier of the listener
+     * @param filter   a predicate selecting the entity types this listener is interested in
+     * @param listener the listener to register
+     */
+    public void register(Identifier id, Predicate<EntityType<?>> filter, T listener) {
+        this.filters.put(id, filter);
+        super.register(id, listener);
+    }
+
+    @Override
+    public void register(Identifier id, T listener) {
+        this.filters.remove(id);
+        super.register(id, listener);
+    }
+
+    @Override
+    public void unregister(Identifier id) {
+        this.filters.remove(id);
+        super.unregister(id);
+    }
+
+    @Override
+    protected void update() {
+        super.update();
+        this.chains = new ChainCache<>(null);
+    }
+
+    /**
+     * @param entityType the type of the entity involved in the event
+     * @return an invoker running only the listeners interested in {@code entityType}
+     */
+    public T invoker(EntityType<?> entityType) {
+        TagManager tags = ServerTagManagerHolder.getTagManager();
+        ChainCache<T> chains = this.chains;
+
+        if (chains.tags != tags) {
+            chains = this.chains = new ChainCache<>(tags);
+        }
+
+        return chains.invokers.computeIfAbsent(entityType, this::createInvoker);
+    }
+
+    private T createInvoker(EntityType<?> entityType) {
+        List<T> listeners = new ArrayList<>();
+        for (Map.Entry<Identifier, T> entry : this.getHandlers().entrySet()) {
+            Predicate<EntityType<?>> filter = this.filters.get(entry.getKey());
+            if (filter == null || filter.test(entityType)) {
+                listeners.add(entry.getValue());
+            }
+        }
+        return this.createInvoker(listeners);
+    }
+
+    private static final class ChainCache<T> {
+        final TagManager tags;
+        final Map<EntityType<?>, T> invokers = new ConcurrentHashMap<>();
+
+        ChainCache(TagManager tags) {
+            this.tags = tags;
+        }
+    }
+}
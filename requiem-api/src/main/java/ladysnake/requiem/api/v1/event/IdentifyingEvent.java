@@ -21,18 +21,22 @@ import net.fabricmc.fabric.api.event.Event;
 import net.minecraft.util.Identifier;
 
 import java.lang.reflect.Array;
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.function.Function;
 
 /**
  * An event for which callbacks are uniquely identified.
  * Listeners can be individually removed using their identifier.
+ *
+ * <p>Listeners are invoked in registration order.
+ * Registering a listener again with the same identifier replaces it without changing its position.
  * @param <T> The listener type.
  */
 public class IdentifyingEvent<T> extends Event<T> {
     private final Class<T> type;
-    private final Map<Identifier, T> handlers = new HashMap<>();
+    private final Map<Identifier, T> handlers = new LinkedHashMap<>();
     private final Function<T[], T> invokerFactory;
 
     public IdentifyingEvent(Class<T> type, Function<T[], T> invokerFactory) {
@@ -40,13 +44,23 @@ public class IdentifyingEvent<T> extends Event<T> {
         this.invokerFactory = invokerFactory;
     }
 
-    private void update() {
-        if (handlers.size() == 1) {
-            this.invoker = handlers.values().iterator().next();
-        } else {
-            @SuppressWarnings("unchecked") T[] arr = handlers.values().toArray((T[]) Array.newInstance(type, 0));
-            this.invoker = this.invokerFactory.apply(arr);
-        }
+    protected void update() {
+        this.invoker = this.createInvoker(this.handlers.values());
+    }
+
+    /**
+     * Creates an invoker for the given listeners.
+     *
+     * <p>The invoker factory is always used, even for a single listener, as it may
+     * provide a default result that a bare listener would not.
+     */
+    protected T createInvoker(Collection<T> listeners) {
+        @SuppressWarnings("unchecked") T[] arr = listeners.toArray((T[]) Array.newInstance(type, 0));
+        return this.invokerFactory.apply(arr);
+    }
+
+    protected Map<Identifier, T> getHandlers() {
+        return this.handlers;
     }
 
     /**
@@ -20,6 +20,12 @@ package ladysnake.requiem.api.v1.event.minecraft.client;
 import net.fabricmc.fabric.api.event.Event;
 import net.fabricmc.fabric.api.event.EventFactory;
 
+/**
+ * Fired every frame after the vanilla crosshair target has been updated.
+ *
+ * <p>Listeners can read {@link net.minecraft.client.MinecraftClient#crosshairTarget}
+ * to avoid raycasting again over the same distance.
+ */
 @FunctionalInterface
 public interface UpdateTargetedEntityCallback {
     void updateTargetedEntity(float tickDelta);
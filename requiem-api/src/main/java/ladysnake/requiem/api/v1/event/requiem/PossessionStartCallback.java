@@ -17,7 +17,7 @@
  */
 package ladysnake.requiem.api.v1.event.requiem;
 
-import ladysnake.requiem.api.v1.event.IdentifyingEvent;
+import ladysnake.requiem.api.v1.event.EntityTypeIdentifyingEvent;
 import ladysnake.requiem.api.v1.possession.PossessionComponent;
 import net.minecraft.entity.mob.MobEntity;
 import net.minecraft.entity.player.PlayerEntity;
@@ -51,7 +51,13 @@ public interface PossessionStartCallback {
      */
     Result onPossessionAttempted(MobEntity target, PlayerEntity possessor, boolean simulate);
 
-    IdentifyingEvent<PossessionStartCallback> EVENT = new IdentifyingEvent<>(PossessionStartCallback.class,
+    /**
+     * Listeners that only handle specific entities should be registered with an entity type filter,
+     * possession attempts only invoke the listeners relevant to the target's type.
+     *
+     * @see EntityTypeIdentifyingEvent#register(net.minecraft.util.Identifier, java.util.function.Predicate, Object)
+     */
+    EntityTypeIdentifyingEvent<PossessionStartCallback> EVENT = new EntityTypeIdentifyingEvent<>(PossessionStartCallback.class,
             (listeners) -> (target, possessor, simulate) -> {
                 Result ret = target.world.isClient && !simulate ? Result.ALLOW : Result.PASS;
                 for (PossessionStartCallback listener : listeners) {
@@ -24,9 +24,12 @@ import ladysnake.requiem.api.v1.dialogue.DialogueRegistry;
 import ladysnake.requiem.api.v1.entity.MovementRegistry;
 import ladysnake.requiem.api.v1.entity.ability.MobAbilityConfig;
 import ladysnake.requiem.api.v1.entity.ability.MobAbilityRegistry;
+import ladysnake.requiem.api.v1.possession.PossessedEntityRegistry;
 import ladysnake.requiem.api.v1.remnant.SoulbindingRegistry;
 import ladysnake.requiem.api.v1.util.SubDataManagerHelper;
+import net.minecraft.entity.EntityType;
 import net.minecraft.entity.LivingEntity;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.world.World;
 import org.apiguardian.api.API;
 import org.jetbrains.annotations.Nullable;
@@ -36,6 +39,7 @@ import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
 
@@ -78,6 +82,10 @@ public final class ApiInternals {
     private static Function<@Nullable World, DialogueRegistry> dialogueRegistryGetter;
     @AccessedThroughReflection
     private static Function<@Nullable World, MovementRegistry> movementRegistryGetter;
+    @AccessedThroughReflection
+    private static ToLongFunction<EntityType<?>> entityTraitGetter;
+    @AccessedThroughReflection
+    private static Function<ServerWorld, PossessedEntityRegistry> possessedEntityRegistryGetter;
 
     @SuppressWarnings("unchecked")
     public static <T extends LivingEntity> MobAbilityConfig.Builder<T> mobAbilityConfig$builderImpl() {
@@ -134,4 +142,14 @@ public final class ApiInternals {
         if (movementRegistryGetter == null) throw new UninitializedApiException("MovementRegistry is not available");
         return movementRegistryGetter.apply(world);
     }
+
+    public static long getEntityTraits(EntityType<?> type) {
+        if (entityTraitGetter == null) throw new UninitializedApiException("Entity traits are not available");
+        return entityTraitGetter.applyAsLong(type);
+    }
+
+    public static PossessedEntityRegistry getPossessedEntityRegistry(ServerWorld world) {
+        if (possessedEntityRegistryGetter == null) throw new UninitializedApiException("PossessedEntityRegistry is not available");
+        return possessedEntityRegistryGetter.apply(world);
+    }
 }
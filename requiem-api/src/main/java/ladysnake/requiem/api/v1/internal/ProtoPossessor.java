@@ -0,0 +1,37 @@
+/*
+ * Requiem
+ * Copyright (C) 2017-2021 Ladysnake
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; If not, see <https://www.gnu.org/licenses>.
+ */
+package ladysnake.requiem.api.v1.internal;
+
+import net.minecraft.entity.mob.MobEntity;
+
+import javax.annotation.Nullable;
+
+/**
+ * Implemented by every {@link net.minecraft.entity.Entity} when an API provider is installed.
+ *
+ * <p>The possessed entity is mirrored in a plain field so that hot code paths
+ * do not need to go through the component container.
+ * Only players can hold a non-null value.
+ */
+public interface ProtoPossessor {
+    /**
+     * @return the entity possessed by this entity, or {@code null} if there is none or if it has been removed
+     */
+    @Nullable
+    MobEntity requiem$getPossessedEntity();
+}
@@ -0,0 +1,68 @@
+/*
+ * Requiem
+ * Copyright (C) 2017-2021 Ladysnake
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; If not, see <https://www.gnu.org/licenses>.
+ */
+package ladysnake.requiem.api.v1.possession;
+
+import ladysnake.requiem.api.v1.internal.ApiInternals;
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.ChunkPos;
+import org.jetbrains.annotations.Contract;
+
+import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * An index of the possessed entities living in a {@link ServerWorld}.
+ *
+ * <p>The registry is updated when a possession starts or stops, when a possessed entity
+ * gets unloaded, and when it changes chunks or dimensions. Lookups do not need to go through
+ * the world's entity list.
+ *
+ * <p>A registry must only be accessed from its world's server thread.
+ *
+ * @since 1.6.0
+ */
+public interface PossessedEntityRegistry {
+    /**
+     * @param world the world to query
+     * @return the registry of possessed entities for {@code world}
+     */
+    @Contract(pure = true)
+    static PossessedEntityRegistry get(ServerWorld world) {
+        return ApiInternals.getPossessedEntityRegistry(world);
+    }
+
+    /**
+     * @param possessorUuid the UUID of a player
+     * @return the entity possessed by the player with the given UUID in this world, or {@code null} if there is none
+     */
+    @Nullable
+    MobEntity getPossessedEntity(UUID possessorUuid);
+
+    /**
+     * @return an unmodifiable view of every possessed entity in this world
+     */
+    Collection<MobEntity> getPossessedEntities();
+
+    /**
+     * @param chunkPos the position of a chunk
+     * @return an unmodifiable view of the possessed entities currently located in the given chunk
+     */
+    Collection<MobEntity> getPossessedEntities(ChunkPos chunkPos);
+}
@@ -23,6 +23,7 @@ import dev.onyxstudios.cca.api.v3.component.sync.AutoSyncedComponent;
 import dev.onyxstudios.cca.api.v3.component.tick.ServerTickingComponent;
 import ladysnake.requiem.api.v1.RequiemPlayer;
 import ladysnake.requiem.api.v1.event.requiem.PossessionStartCallback;
+import ladysnake.requiem.api.v1.internal.ProtoPossessor;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.mob.MobEntity;
 import net.minecraft.entity.player.PlayerEntity;
@@ -51,9 +52,18 @@ public interface PossessionComponent extends AutoSyncedComponent, ServerTickingC
         return KEY.get(player);
     }
 
+    /**
+     * Gets the entity possessed by the given possessor, without going through the component container.
+     *
+     * <p>This method is cheap enough to be called from hot code paths.
+     * Entities that have been removed from the world are never returned,
+     * but attempts to recover them only happen at the start of the possessor's next tick.
+     *
+     * @param possessor the entity to query
+     * @return the entity possessed by {@code possessor}, or {@code null} if there is none
+     */
     static @Nullable MobEntity getPossessedEntity(Entity possessor) {
-        PossessionComponent p = KEY.getNullable(possessor);
-        return p == null ? null : p.getPossessedEntity();
+        return ((ProtoPossessor) possessor).requiem$getPossessedEntity();
     }
 
     /**
@@ -0,0 +1,136 @@
+/*
+ * Requiem
+ * Copyright (C) 2017-2021 Ladysnake
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses>.
+ *
+ * Linking this mod statically or dynamically with other
+ * modules is making a combined work based on this mod.
+ * Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *
+ * In addition, as a special exception, the copyright holders of
+ * this mod give you permission to combine this mod
+ * with free software programs or libraries that are released under the GNU LGPL
+ * and with code included in the standard release of Minecraft under All Rights Reserved (or
+ * modified versions of such code, with unchanged license).
+ * You may copy and distribute such a system following the terms of the GNU GPL for this mod
+ * and the licenses of the other code concerned.
+ *
+ * Note that people who make modified versions of this mod are not obligated to grant
+ * this special exception for their modified versions; it is their choice whether to do so.
+ * The GNU General Public License gives permission to release a modified version without this exception;
+ * this exception also makes it possible to release a modified version which carries forward this exception.
+ */
+package ladysnake.requiem.client;
+
+import ladysnake.requiem.api.v1.possession.PossessionComponent;
+import ladysnake.requiem.api.v1.remnant.RemnantComponent;
+import ladysnake.requiem.common.impl.ability.PlayerAbilityController;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.network.ClientPlayerEntity;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.mob.MobEntity;
+
+import javax.annotation.Nullable;
+
+/**
+ * Immutable view of the local player's soul state, captured once at the start of every frame.
+ *
+ * <p>HUD and render hooks are called many times per frame, and each of them used to look up
+ * the same components on the local player. They should read this snapshot instead, which also
+ * guarantees that every hook sees the same state for the whole frame.
+ *
+ * <p>Code running during the client tick should keep querying the components directly,
+ * as their state may change between two frames.
+ */
+public final class ClientSoulState {
+    private static final ClientSoulState EMPTY = new ClientSoulState(null, false, false, null, null);
+
+    private static ClientSoulState current = EMPTY;
+
+    private final @Nullable ClientPlayerEntity player;
+    private final boolean incorporeal;
+    private final boolean vagrant;
+    private final @Nullable MobEntity host;
+    private final @Nullable PlayerAbilityController abilityController;
+
+    private ClientSoulState(@Nullable ClientPlayerEntity player, boolean incorporeal, boolean vagrant, @Nullable MobEntity host, @Nullable PlayerAbilityController abilityController) {
+        this.player = player;
+        this.incorporeal = incorporeal;
+        this.vagrant = vagrant;
+        this.host = host;
+        this.abilityController = abilityController;
+    }
+
+    public static ClientSoulState get() {
+        return current;
+    }
+
+    public static void update(MinecraftClient client) {
+        ClientPlayerEntity player = client.player;
+        if (player == null) {
+            current = EMPTY;
+        } else {
+            RemnantComponent remnantState = RemnantComponent.get(player);
+            current = new ClientSoulState(
+                player,
+                remnantState.isIncorporeal(),
+                remnantState.isVagrant(),
+                PossessionComponent.getPossessedEntity(player),
+                PlayerAbilityController.get(player)
+            );
+        }
+    }
+
+    /**
+     * @return the player this snapshot was taken from, or {@code null} if there was no player
+     */
+    public @Nullable ClientPlayerEntity getPlayer() {
+        return this.player;
+    }
+
+    /**
+     * @return {@code true} if {@code entity} is the player this snapshot was taken from
+     */
+    public boolean isPlayer(@Nullable Entity entity) {
+        return entity != null && entity == this.player;
+    }
+
+    public boolean isIncorporeal() {
+        return this.incorporeal;
+    }
+
+    public boolean isVagrant() {
+        return this.vagrant;
+    }
+
+    /**
+     * @return the entity possessed by the player at the start of the frame, or {@code null}
+     */
+    public @Nullable MobEntity getHost() {
+        return this.host;
+    }
+
+    /**
+     * Returns the player's ability controller.
+     *
+     * <p>The controller itself is live: targets are updated after this snapshot is taken,
+     * and cooldowns keep ticking.
+     *
+     * @return the player's ability controller, or {@code null} if there was no player
+     */
+    public @Nullable PlayerAbilityController getAbilityController() {
+        return this.abilityController;
+    }
+}
@@ -35,8 +35,8 @@
 package ladysnake.requiem.client;
 
 import ladysnake.requiem.Requiem;
+import ladysnake.requiem.api.v1.entity.EntityTrait;
 import ladysnake.requiem.api.v1.possession.PossessionComponent;
-import ladysnake.requiem.common.tag.RequiemEntityTypeTags;
 import ladysnake.satin.api.event.PickEntityShaderCallback;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gl.ShaderEffect;
@@ -73,9 +73,9 @@ public final class RequiemEntityShaderPicker implements PickEntityShaderCallback
         if (possessed != null) {
             MinecraftClient.getInstance().gameRenderer.onCameraEntitySet(possessed);
         } else if (appliedShaderGetter.get() == null) {
-            if (RequiemEntityTypeTags.DICHROMATS.contains(camera.getType())) {
+            if (EntityTrait.DICHROMAT.isIn(camera.getType())) {
                 loadShaderFunc.accept(DICHROMATIC_SHADER_ID);
-            } else if (RequiemEntityTypeTags.TETRACHROMATS.contains(camera.getType())) {
+            } else if (EntityTrait.TETRACHROMAT.isIn(camera.getType())) {
                 loadShaderFunc.accept(TETRACHROMATIC_SHADER_ID);
             } else if (camera instanceof BeeEntity) {
                 loadShaderFunc.accept(BEE_SHADER_ID);
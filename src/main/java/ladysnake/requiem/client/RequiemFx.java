@@ -153,8 +153,7 @@ public final class RequiemFx implements ShaderEffectRenderCallback, ClientTickEv
             zoomFramebuffer.clear();
         }
 
-        assert mc.player != null;
-        boolean incorporeal = RemnantComponent.get(mc.player).isIncorporeal();
+        boolean incorporeal = ClientSoulState.get().isIncorporeal();
         if (incorporeal || this.etherealAnimation > 0 || this.pulseAnimation >= 0) {
             // 10 -> 1
             float zoom = Math.max(1, (etherealAnimation - tickDelta));
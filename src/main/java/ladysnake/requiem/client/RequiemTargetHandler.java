@@ -59,6 +59,14 @@ public final class RequiemTargetHandler implements UpdateTargetedEntityCallback,
         UpdateTargetedEntityCallback.EVENT.register(this);
     }
 
+    /**
+     * Finds the entity targeted by each of the player's abilities.
+     *
+     * <p>Abilities are sorted by range, and every ability targets the closest eligible entity
+     * in the line of sight if it is within its range. This lets a single raycast over the longest range
+     * serve every ability. When vanilla's crosshair target already holds that information,
+     * no raycast is performed at all.
+     */
     @Override
     public void updateTargetedEntity(float tickDelta) {
         if (this.client.player == null) return;
@@ -69,43 +77,52 @@ public final class RequiemTargetHandler implements UpdateTargetedEntityCallback,
 
         AbilityType[] abilityTypes = abilityController.getSortedAbilities();
         double maxRange = abilityController.getRange(abilityTypes[abilityTypes.length - 1]);
-
-        HitResult blockResult = entity.raycast(maxRange, tickDelta, false);
         Vec3d startPoint = entity.getCameraPosVec(tickDelta);
-        double distanceToBlockSq = blockResult != null ? blockResult.getPos().squaredDistanceTo(startPoint) : Double.POSITIVE_INFINITY;
-        Vec3d rotationVec = entity.getRotationVec(1.0F);
+        HitResult crosshairTarget = this.client.crosshairTarget;
 
         abilityController.clearTargets();
 
-        for (int i = 0; i < abilityTypes.length; i++) {
-            AbilityType k = abilityTypes[i];
-
-            double range = abilityController.getRange(k);
-            double effectiveRangeSq = Math.min(range * range, distanceToBlockSq);
+        Entity hitEntity;
+        double distanceToHitSq;
+
+        if (crosshairTarget instanceof EntityHitResult) {
+            // Vanilla already found the closest eligible entity in the line of sight, with no block in between
+            hitEntity = ((EntityHitResult) crosshairTarget).getEntity();
+            distanceToHitSq = startPoint.squaredDistanceTo(crosshairTarget.getPos());
+        } else {
+            double maxRangeSq = maxRange * maxRange;
+            double distanceToBlockSq;
+
+            if (crosshairTarget != null && crosshairTarget.getType() == HitResult.Type.BLOCK && crosshairTarget.getPos().squaredDistanceTo(startPoint) <= maxRangeSq) {
+                // The first block in the line of sight does not depend on the raycast's length
+                distanceToBlockSq = crosshairTarget.getPos().squaredDistanceTo(startPoint);
+            } else {
+                HitResult blockResult = entity.raycast(maxRange, tickDelta, false);
+                distanceToBlockSq = blockResult != null ? blockResult.getPos().squaredDistanceTo(startPoint) : Double.POSITIVE_INFINITY;
+            }
 
-            Vec3d endPoint = startPoint.add(rotationVec.x * range, rotationVec.y * range, rotationVec.z * range);
-            Box box = entity.getBoundingBox().stretch(rotationVec.multiply(range)).expand(1.0D, 1.0D, 1.0D);
+            Vec3d rotationVec = entity.getRotationVec(1.0F);
+            Vec3d endPoint = startPoint.add(rotationVec.x * maxRange, rotationVec.y * maxRange, rotationVec.z * maxRange);
+            Box box = entity.getBoundingBox().stretch(rotationVec.multiply(maxRange)).expand(1.0D, 1.0D, 1.0D);
             EntityHitResult entityHitResult = ProjectileUtil.raycast(
                 entity,
                 startPoint,
                 endPoint,
                 box,
                 ((GameRendererAccessor) client.gameRenderer)::requiem$isEligibleForTargeting,
-                effectiveRangeSq
+                Math.min(maxRangeSq, distanceToBlockSq)
             );
 
-            if (entityHitResult != null) {
-                Entity hitEntity = entityHitResult.getEntity();
-                Vec3d hitPos = entityHitResult.getPos();
-                double distanceToHitSq = startPoint.squaredDistanceTo(hitPos);
-
-                if (distanceToHitSq < effectiveRangeSq || blockResult == null) {
-                    // Every target after this one must have a higher range, so they will target the same entity
-                    for (; i < abilityTypes.length; i++) {
-                        AbilityType eligibleAbility = abilityTypes[i];
-                        abilityController.tryTarget(eligibleAbility, hitEntity);
-                    }
-                }
+            if (entityHitResult == null) return;
+
+            hitEntity = entityHitResult.getEntity();
+            distanceToHitSq = startPoint.squaredDistanceTo(entityHitResult.getPos());
+        }
+
+        for (AbilityType abilityType : abilityTypes) {
+            double range = abilityController.getRange(abilityType);
+            if (distanceToHitSq < range * range) {
+                abilityController.tryTarget(abilityType, hitEntity);
             }
         }
     }
@@ -0,0 +1,154 @@
+/*
+ * Requiem
+ * Copyright (C) 2017-2021 Ladysnake
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses>.
+ *
+ * Linking this mod statically or dynamically with other
+ * modules is making a combined work based on this mod.
+ * Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *
+ * In addition, as a special exception, the copyright holders of
+ * this mod give you permission to combine this mod
+ * with free software programs or libraries that are released under the GNU LGPL
+ * and with code included in the standard release of Minecraft under All Rights Reserved (or
+ * modified versions of such code, with unchanged license).
+ * You may copy and distribute such a system following the terms of the GNU GPL for this mod
+ * and the licenses of the other code concerned.
+ *
+ * Note that people who make modified versions of this mod are not obligated to grant
+ * this special exception for their modified versions; it is their choice whether to do so.
+ * The GNU General Public License gives permission to release a modified version without this exception;
+ * this exception also makes it possible to release a modified version which carries forward this exception.
+ */
+package ladysnake.requiem.client.network;
+
+import ladysnake.requiem.api.v1.util.SubDataManager;
+import ladysnake.requiem.api.v1.util.SubDataManagerHelper;
+import ladysnake.requiem.common.impl.data.ServerSubDataManagerHelper;
+import ladysnake.requiem.common.impl.data.SubDataSnapshot;
+import ladysnake.requiem.common.network.RequiemNetworking;
+import net.fabricmc.fabric.api.networking.v1.PacketSender;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.thread.ThreadExecutor;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Client-side counterpart to {@link ServerSubDataManagerHelper}.
+ *
+ * <p>Snapshots received from a server are kept in memory, keyed by content hash,
+ * so reconnecting to a server with unchanged data does not require downloading it again.
+ *
+ * <p>Each snapshot is decoded by its sub data manager on the network thread,
+ * then applied synchronously with the client's task queue.
+ */
+public final class ClientSubDataCache {
+    private static final int CACHED_SNAPSHOTS_PER_MANAGER = 4;
+
+    private final Map<Identifier, SubDataSnapshot> current = new HashMap<>();
+    private final Map<Identifier, Map<Long, SubDataSnapshot>> cache = new HashMap<>();
+
+    public synchronized void onHashes(PacketByteBuf buf, ThreadExecutor<?> taskQueue, PacketSender responseSender) {
+        boolean missing = false;
+        int nbManagers = buf.readVarInt();
+        for (int i = 0; i < nbManagers; i++) {
+            Identifier id = buf.readIdentifier();
+            long hash = buf.readLong();
+            SubDataManager<?> manager = getManager(id);
+            if (this.getCurrent(id).getHash() != hash) {
+                SubDataSnapshot cached = this.getCachedSnapshots(id).get(hash);
+                if (cached != null) {
+                    this.apply(id, manager, cached, taskQueue);
+                } else {
+                    missing = true;
+                }
+            }
+        }
+        if (missing) {
+            responseSender.sendPacket(RequiemNetworking.createDataSyncRequestMessage());
+        }
+    }
+
+    public synchronized void onFullData(PacketByteBuf buf, ThreadExecutor<?> taskQueue) {
+        int nbManagers = buf.readVarInt();
+        for (int i = 0; i < nbManagers; i++) {
+            Identifier id = buf.readIdentifier();
+            SubDataManager<?> manager = getManager(id);
+            SubDataSnapshot snapshot = SubDataSnapshot.fromPacket(buf);
+            if (this.getCurrent(id).getHash() != snapshot.getHash()) {
+                this.apply(id, manager, snapshot, taskQueue);
+            }
+        }
+    }
+
+    public synchronized void onDelta(PacketByteBuf buf, ThreadExecutor<?> taskQueue, PacketSender responseSender) {
+        boolean missing = false;
+        int nbManagers = buf.readVarInt();
+        for (int i = 0; i < nbManagers; i++) {
+            Identifier id = buf.readIdentifier();
+            SubDataManager<?> manager = getManager(id);
+            SubDataSnapshot snapshot = this.getCurrent(id).applyDelta(buf);
+            if (snapshot != null) {
+                this.apply(id, manager, snapshot, taskQueue);
+            } else {
+                // we missed an update somewhere, start over
+                missing = true;
+            }
+        }
+        if (missing) {
+            responseSender.sendPacket(RequiemNetworking.createDataSyncRequestMessage());
+        }
+    }
+
+    private SubDataSnapshot getCurrent(Identifier id) {
+        return this.current.getOrDefault(id, SubDataSnapshot.EMPTY);
+    }
+
+    private Map<Long, SubDataSnapshot> getCachedSnapshots(Identifier id) {
+        return this.cache.computeIfAbsent(id, k -> new LinkedHashMap<Long, SubDataSnapshot>(CACHED_SNAPSHOTS_PER_MANAGER + 1, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, SubDataSnapshot> eldest) {
+                return this.size() > CACHED_SNAPSHOTS_PER_MANAGER;
+            }
+        });
+    }
+
+    private void apply(Identifier id, SubDataManager<?> manager, SubDataSnapshot snapshot, ThreadExecutor<?> taskQueue) {
+        this.current.put(id, snapshot);
+        this.getCachedSnapshots(id).put(snapshot.getHash(), snapshot);
+        PacketByteBuf buf = snapshot.toManagerPacket(manager);
+        try {
+            syncSubDataManager(buf, manager, taskQueue);
+        } finally {
+            buf.release();
+        }
+    }
+
+    private static SubDataManager<?> getManager(Identifier id) {
+        return Objects.requireNonNull(
+            SubDataManagerHelper.getClientHelper().streamDataManagers().filter(m -> m.getFabricId().equals(id)).findAny().orElse(null),
+            "Unknown sub data manager " + id
+        );
+    }
+
+    private static <T> void syncSubDataManager(PacketByteBuf buffer, SubDataManager<T> subManager, ThreadExecutor<?> taskQueue) {
+        T data = subManager.loadFromPacket(buffer);
+        taskQueue.execute(() -> subManager.apply(data));
+    }
+}
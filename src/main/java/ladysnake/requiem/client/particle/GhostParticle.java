@@ -47,20 +47,29 @@ import net.minecraft.client.world.ClientWorld;
 import net.minecraft.particle.DefaultParticleType;
 
 public class GhostParticle extends AbstractSlowingParticle {
-    private static boolean renderedGhostParticle;
     private static final VertexConsumerProvider.Immediate ghostVertexConsumers = VertexConsumerProvider.immediate(
         new BufferBuilder(RequiemRenderPhases.GHOST_PARTICLE_LAYER.getExpectedBufferSize())
     );
+    private static final GhostParticleBatch batch = new GhostParticleBatch(ghostVertexConsumers::draw);
+
+    /**
+     * Draws the geometry of every ghost particle built this frame in a single call.
+     *
+     * <p>Called at the end of {@link ParticleManager#renderParticles}, while the camera transform is still applied.
+     * Batching the particles also lets the translucent layer sort all of them at once.
+     */
+    public static void drawBufferedGeometry() {
+        batch.flushGeometry();
+    }
 
     public static void draw(float tickDelta) {
-        if (renderedGhostParticle) {
+        if (batch.consumeRendered()) {
             // Somehow, the GL state can be really broken after another shader render
             RequiemRenderPhases.ZERO_ALPHA.startDrawing();
             RequiemRenderPhases.GHOST_PARTICLE_SHADER.render(tickDelta);
             RequiemRenderPhases.GHOST_PARTICLE_FRAMEBUFFER.clear();
             // Somehow, the GL state can also be really broken after the shader render
             MinecraftClient.getInstance().gameRenderer.getLightmapTextureManager().enable();
-            renderedGhostParticle = false;
         }
     }
 
@@ -83,8 +92,8 @@ public class GhostParticle extends AbstractSlowingParticle {
     public void buildGeometry(VertexConsumer vertexConsumer, Camera camera, float tickDelta) {
         VertexConsumer actualConsumer = ghostVertexConsumers.getBuffer(RequiemRenderPhases.GHOST_PARTICLE_LAYER);
         super.buildGeometry(actualConsumer, camera, tickDelta);
-        ghostVertexConsumers.draw();
-        renderedGhostParticle = true;
+        // drawn all at once in drawBufferedGeometry
+        batch.markBuffered();
     }
 
     public void tick() {
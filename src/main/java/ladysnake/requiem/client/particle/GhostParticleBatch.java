@@ -0,0 +1,82 @@
+/*
+ * Requiem
+ * Copyright (C) 2017-2021 Ladysnake
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses>.
+ *
+ * Linking this mod statically or dynamically with other
+ * modules is making a combined work based on this mod.
+ * Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *
+ * In addition, as a special exception, the copyright holders of
+ * this mod give you permission to combine this mod
+ * with free software programs or libraries that are released under the GNU LGPL
+ * and with code included in the standard release of Minecraft under All Rights Reserved (or
+ * modified versions of such code, with unchanged license).
+ * You may copy and distribute such a system following the terms of the GNU GPL for this mod
+ * and the licenses of the other code concerned.
+ *
+ * Note that people who make modified versions of this mod are not obligated to grant
+ * this special exception for their modified versions; it is their choice whether to do so.
+ * The GNU General Public License gives permission to release a modified version without this exception;
+ * this exception also makes it possible to release a modified version which carries forward this exception.
+ */
+package ladysnake.requiem.client.particle;
+
+/**
+ * Keeps track of the ghost particles buffered during a frame, so that their geometry
+ * is drawn in a single call, and the ghost shader only runs on frames that drew something.
+ *
+ * <p>This class holds no GL state, the actual drawing is delegated to {@link #drawGeometry}.
+ */
+final class GhostParticleBatch {
+    private final Runnable drawGeometry;
+    private boolean buffered;
+    private boolean rendered;
+
+    GhostParticleBatch(Runnable drawGeometry) {
+        this.drawGeometry = drawGeometry;
+    }
+
+    /**
+     * Records that a particle has been added to the shared buffer this frame.
+     */
+    void markBuffered() {
+        this.buffered = true;
+    }
+
+    /**
+     * Draws every particle buffered since the last flush, in a single call.
+     *
+     * @return {@code true} if anything was drawn
+     */
+    boolean flushGeometry() {
+        if (this.buffered) {
+            this.drawGeometry.run();
+            this.buffered = false;
+            this.rendered = true;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return {@code true} if particles were drawn since the last call, meaning the shader pass should run
+     */
+    boolean consumeRendered() {
+        boolean rendered = this.rendered;
+        this.rendered = false;
+        return rendered;
+    }
+}
@@ -43,7 +43,6 @@ import ladysnake.requiem.api.v1.entity.CurableEntityComponent;
 import ladysnake.requiem.api.v1.entity.InventoryLimiter;
 import ladysnake.requiem.api.v1.entity.MovementAlterer;
 import ladysnake.requiem.api.v1.entity.ability.MobAbilityController;
-import ladysnake.requiem.api.v1.entity.ability.MobAbilityRegistry;
 import ladysnake.requiem.api.v1.internal.StatusEffectReapplicator;
 import ladysnake.requiem.api.v1.possession.PossessionComponent;
 import ladysnake.requiem.api.v1.remnant.AttritionFocus;
@@ -54,7 +53,7 @@ import ladysnake.requiem.common.entity.cure.CurableZombifiedPiglinComponent;
 import ladysnake.requiem.common.entity.cure.DelegatingCurableEntityComponent;
 import ladysnake.requiem.common.entity.cure.SimpleCurableEntityComponent;
 import ladysnake.requiem.common.entity.effect.StatusEffectReapplicatorImpl;
-import ladysnake.requiem.common.impl.ability.ImmutableMobAbilityController;
+import ladysnake.requiem.common.impl.ability.LazyMobAbilityController;
 import ladysnake.requiem.common.impl.ability.PlayerAbilityController;
 import ladysnake.requiem.common.impl.inventory.PlayerInventoryLimiter;
 import ladysnake.requiem.common.impl.movement.PlayerMovementAlterer;
@@ -80,8 +79,7 @@ public final class RequiemComponents implements EntityComponentInitializer, Scor
         registry.registerForPlayers(MovementAlterer.KEY, PlayerMovementAlterer::new, RespawnCopyStrategy.LOSSLESS_ONLY);
         registry.registerForPlayers(DeathSuspender.KEY, RevivingDeathSuspender::new, RespawnCopyStrategy.LOSSLESS_ONLY);
         registry.registerForPlayers(DialogueTracker.KEY, PlayerDialogueTracker::new, RespawnCopyStrategy.LOSSLESS_ONLY);
-        registry.registerFor(MobEntity.class, MobAbilityController.KEY,
-            e -> new ImmutableMobAbilityController<>(MobAbilityRegistry.instance().getConfig(e), e));
+        registry.registerFor(MobEntity.class, MobAbilityController.KEY, LazyMobAbilityController::new);
         registry.registerForPlayers(MobAbilityController.KEY, PlayerAbilityController::new, RespawnCopyStrategy.LOSSLESS_ONLY);
         registry.registerForPlayers(InventoryLimiter.KEY, PlayerInventoryLimiter::new, RespawnCopyStrategy.INVENTORY);
         registry.registerFor(MobEntity.class, SkeletonBoneComponent.KEY, SkeletonBoneComponent::new);
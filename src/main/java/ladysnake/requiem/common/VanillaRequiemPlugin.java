@@ -37,6 +37,7 @@ package ladysnake.requiem.common;
 import ladysnake.requiem.Requiem;
 import ladysnake.requiem.api.v1.RequiemPlugin;
 import ladysnake.requiem.api.v1.dialogue.DialogueRegistry;
+import ladysnake.requiem.api.v1.entity.EntityTrait;
 import ladysnake.requiem.api.v1.entity.InventoryLimiter;
 import ladysnake.requiem.api.v1.entity.InventoryPart;
 import ladysnake.requiem.api.v1.entity.ability.AbilityType;
@@ -63,7 +64,6 @@ import ladysnake.requiem.common.network.RequiemNetworking;
 import ladysnake.requiem.common.remnant.BasePossessionHandlers;
 import ladysnake.requiem.common.remnant.RemnantTypes;
 import ladysnake.requiem.common.sound.RequiemSoundEvents;
-import ladysnake.requiem.common.tag.RequiemEntityTypeTags;
 import net.fabricmc.fabric.api.event.player.*;
 import net.minecraft.enchantment.EnchantmentHelper;
 import net.minecraft.entity.EntityType;
@@ -185,7 +185,7 @@ public final class VanillaRequiemPlugin implements RequiemPlugin {
         });
         UseItemCallback.EVENT.register((player, world, hand) -> {
             LivingEntity possessed = PossessionComponent.getPossessedEntity(player);
-            if (possessed != null && !RequiemEntityTypeTags.ITEM_USERS.contains(possessed.getType()) && !player.isCreative()) {
+            if (possessed != null && !EntityTrait.ITEM_USER.isIn(possessed.getType()) && !player.isCreative()) {
                 return new TypedActionResult<>(ActionResult.FAIL, player.getStackInHand(hand));
             }
             return new TypedActionResult<>(ActionResult.PASS, player.getStackInHand(hand));
@@ -203,7 +203,7 @@ public final class VanillaRequiemPlugin implements RequiemPlugin {
                     }
                     PlayerAbilityController.get(player).resetAbilities(RemnantComponent.isIncorporeal(player));
                 } else {
-                    if (RequiemEntityTypeTags.INVENTORY_CARRIERS.contains(possessed.getType())) {
+                    if (EntityTrait.INVENTORY_CARRIER.isIn(possessed.getType())) {
                         inventoryLimiter.unlock(InventoryPart.MAIN);
                     } else {
                         inventoryLimiter.lock(InventoryPart.MAIN);
@@ -227,17 +227,17 @@ public final class VanillaRequiemPlugin implements RequiemPlugin {
     }
 
     private static boolean canUseItems(MobEntity possessed) {
-        if (RequiemEntityTypeTags.ITEM_USERS.contains(possessed.getType())) {
+        if (EntityTrait.ITEM_USER.isIn(possessed.getType())) {
             return true;
         }
         return possessed.canPickUpLoot();
     }
 
     private static boolean canWearArmor(MobEntity possessed) {
-        if (RequiemEntityTypeTags.ARMOR_BANNED.contains(possessed.getType())) {
+        if (EntityTrait.ARMOR_BANNED.isIn(possessed.getType())) {
             return false;
         }
-        if (RequiemEntityTypeTags.ARMOR_USERS.contains(possessed.getType())) {
+        if (EntityTrait.ARMOR_USER.isIn(possessed.getType())) {
             return true;
         }
         return !possessed.getEquippedStack(EquipmentSlot.HEAD).isEmpty() || possessed.canEquip(new ItemStack(Items.LEATHER_HELMET));
@@ -247,7 +247,7 @@ public final class VanillaRequiemPlugin implements RequiemPlugin {
     public void registerMobAbilities(MobAbilityRegistry abilityRegistry) {
         abilityRegistry.register(EntityType.SHULKER, MobAbilityConfig.<ShulkerEntity>builder()
             .directAttack(ShulkerShootAbility::new)
-            .indirectAttack(shulker -> new AutoAimAbility<>(shulker, AbilityType.ATTACK, 16.0, 4.0))
+            .indirectAttack(shulker -> new AutoAimAbility<>(shulker, AbilityType.ATTACK, 16.0, 4.0, 90))
             .indirectInteract(ShulkerPeekAbility::new).build());
         abilityRegistry.register(EntityType.SNOW_GOLEM, MobAbilityConfig.<SnowGolemEntity>builder()
             .directAttack(e -> new RangedAttackAbility<>(e, 20, 10))
@@ -38,9 +38,9 @@ import dev.onyxstudios.cca.api.v3.component.Component;
 import dev.onyxstudios.cca.api.v3.component.ComponentKey;
 import dev.onyxstudios.cca.api.v3.component.ComponentRegistry;
 import ladysnake.requiem.Requiem;
+import ladysnake.requiem.api.v1.entity.EntityTrait;
 import ladysnake.requiem.api.v1.possession.Possessable;
 import ladysnake.requiem.common.advancement.criterion.RequiemCriteria;
-import ladysnake.requiem.common.tag.RequiemEntityTypeTags;
 import net.minecraft.entity.EntityType;
 import net.minecraft.entity.EquipmentSlot;
 import net.minecraft.entity.mob.MobEntity;
@@ -87,7 +87,7 @@ public final class SkeletonBoneComponent implements Component {
             }
             if (this.owner instanceof WitherSkeletonEntity
                 && replacement.getEquippedStack(EquipmentSlot.HEAD).isEmpty()
-                && !RequiemEntityTypeTags.ARMOR_BANNED.contains(replacement.getType())) {
+                && !EntityTrait.ARMOR_BANNED.isIn(replacement.getType())) {
                 if (this.owner.getRandom().nextInt(5) == 0) {
                     replacement.equipStack(EquipmentSlot.HEAD, new ItemStack(Items.WITHER_SKELETON_SKULL));
                 }
@@ -96,7 +96,7 @@ public final class SkeletonBoneComponent implements Component {
     }
 
     private boolean shouldBeReplaced() {
-        if (RequiemEntityTypeTags.REPLACEABLE_SKELETONS.contains(this.owner.getType())) {
+        if (EntityTrait.REPLACEABLE_SKELETON.isIn(this.owner.getType())) {
             switch (this.owner.world.getDifficulty()) {
                 case PEACEFUL:
                     return false; // what is this skeleton doing in peaceful anyway....?
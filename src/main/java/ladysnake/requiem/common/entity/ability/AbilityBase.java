@@ -36,8 +36,8 @@ package ladysnake.requiem.common.entity.ability;
 
 import com.google.common.base.Preconditions;
 import ladysnake.requiem.api.v1.entity.ability.MobAbility;
-import ladysnake.requiem.api.v1.entity.ability.MobAbilityController;
 import ladysnake.requiem.api.v1.possession.Possessable;
+import ladysnake.requiem.common.impl.ability.PlayerAbilityController;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.network.PacketByteBuf;
@@ -56,29 +56,45 @@ public abstract class AbilityBase<E extends LivingEntity> implements MobAbility<
         this.setCooldown(this.getCooldownTime());
     }
 
+    /**
+     * Sets the remaining cooldown and notifies the client.
+     *
+     * <p>This should only be called when the cooldown changes in a way the client cannot predict,
+     * regular countdown is handled by {@link #update()} on both sides without any syncing.
+     */
     public void setCooldown(int cooldown) {
         Preconditions.checkArgument(cooldown >= 0);
 
         if (this.cooldown != cooldown) {
-            this.cooldown = cooldown;
-
+            this.updateCooldown(cooldown);
             this.sync();
+        }
+    }
 
-            if (cooldown == 0) {
-                this.onCooldownEnd();
-            }
+    private void updateCooldown(int cooldown) {
+        this.cooldown = cooldown;
+
+        if (cooldown == 0) {
+            this.onCooldownEnd();
         }
     }
 
+    /**
+     * Schedules a sync of this ability's state with the player controlling it.
+     *
+     * <p>Syncs are batched by the player's {@link PlayerAbilityController}, which sends at most one packet per tick.
+     */
     protected void sync() {
         E owner = this.owner;
 
+        if (owner.world.isClient) return;
+
         if (owner instanceof PlayerEntity) {
-            MobAbilityController.KEY.sync(owner);
+            PlayerAbilityController.get((PlayerEntity) owner).scheduleSync();
         } else {
             PlayerEntity possessor = ((Possessable) owner).getPossessor();
             if (possessor != null) {
-                MobAbilityController.KEY.sync(possessor);
+                PlayerAbilityController.get(possessor).scheduleSync();
             }
         }
     }
@@ -101,8 +117,9 @@ public abstract class AbilityBase<E extends LivingEntity> implements MobAbility<
     public void update() {
         int cooldown = this.getCooldown();
 
-        if (cooldown > 0 && !this.owner.world.isClient) {
-            this.setCooldown(cooldown - 1);
+        // both sides count down on their own, the client only gets told when a cooldown starts or gets reset
+        if (cooldown > 0) {
+            this.updateCooldown(cooldown - 1);
         }
     }
 
@@ -117,6 +134,10 @@ public abstract class AbilityBase<E extends LivingEntity> implements MobAbility<
 
     @Override
     public void readFromPacket(PacketByteBuf buf) {
-        this.setCooldown(buf.readVarInt());
+        int cooldown = buf.readVarInt();
+
+        if (this.cooldown != cooldown) {
+            this.updateCooldown(cooldown);
+        }
     }
 }
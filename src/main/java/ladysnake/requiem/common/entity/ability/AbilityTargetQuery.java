@@ -0,0 +1,164 @@
+/*
+ * Requiem
+ * Copyright (C) 2017-2021 Ladysnake
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses>.
+ *
+ * Linking this mod statically or dynamically with other
+ * modules is making a combined work based on this mod.
+ * Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *
+ * In addition, as a special exception, the copyright holders of
+ * this mod give you permission to combine this mod
+ * with free software programs or libraries that are released under the GNU LGPL
+ * and with code included in the standard release of Minecraft under All Rights Reserved (or
+ * modified versions of such code, with unchanged license).
+ * You may copy and distribute such a system following the terms of the GNU GPL for this mod
+ * and the licenses of the other code concerned.
+ *
+ * Note that people who make modified versions of this mod are not obligated to grant
+ * this special exception for their modified versions; it is their choice whether to do so.
+ * The GNU General Public License gives permission to release a modified version without this exception;
+ * this exception also makes it possible to release a modified version which carries forward this exception.
+ */
+package ladysnake.requiem.common.entity.ability;
+
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.ai.TargetPredicate;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.Vec3d;
+
+import javax.annotation.Nullable;
+
+/**
+ * Finds the closest valid target around an entity, optionally restricted to a cone along its look direction.
+ *
+ * <p>Candidates are filtered while the world scans its entity sections, cheapest checks first:
+ * anything farther than the best candidate found so far, or outside the cone, is discarded
+ * before the comparatively expensive {@link TargetPredicate} (which may raycast for visibility) runs.
+ * The result is cached for the rest of the tick, so repeated uses do not scan again.
+ *
+ * <p>Instances are stateful and meant to be owned by a single ability.
+ */
+public final class AbilityTargetQuery {
+    private final LivingEntity owner;
+    private final double horizontalRange;
+    private final double verticalRange;
+    private final double minCosAngle;
+    private final TargetPredicate targetPredicate = new TargetPredicate();
+
+    private long cachedTime = Long.MIN_VALUE;
+    private @Nullable LivingEntity cachedTarget;
+
+    // Scan state, only meaningful during findClosestTarget
+    private double originX;
+    private double originY;
+    private double originZ;
+    private @Nullable Vec3d look;
+    private double bestDistanceSq;
+    private @Nullable LivingEntity best;
+
+    /**
+     * @param owner           the entity searching for a target
+     * @param horizontalRange the horizontal distance by which the owner's bounding box is expanded
+     * @param verticalRange   the vertical distance by which the owner's bounding box is expanded
+     * @param maxAngle        the maximum angle in degrees between the owner's look direction and a target,
+     *                        {@code 180} or more disables the cone check
+     */
+    public AbilityTargetQuery(LivingEntity owner, double horizontalRange, double verticalRange, float maxAngle) {
+        this.owner = owner;
+        this.horizontalRange = horizontalRange;
+        this.verticalRange = verticalRange;
+        this.minCosAngle = minCosAngle(maxAngle);
+    }
+
+    /**
+     * @param maxAngle the maximum angle in degrees between a look direction and a target
+     * @return the cosine of {@code maxAngle}, or {@code -1} if the angle does not restrict anything
+     */
+    static double minCosAngle(float maxAngle) {
+        return maxAngle >= 180 ? -1 : MathHelper.cos(maxAngle * ((float) Math.PI / 180F));
+    }
+
+    /**
+     * Checks whether an offset lies within a cone, without normalizing the offset.
+     *
+     * @param look        the normalized axis of the cone
+     * @param minCosAngle the cosine of the cone's half-angle, as computed by {@link #minCosAngle(float)}
+     * @return {@code true} if the angle between {@code look} and the offset is at most the cone's half-angle
+     */
+    static boolean isWithinCone(Vec3d look, double dx, double dy, double dz, double minCosAngle) {
+        double dot = look.x * dx + look.y * dy + look.z * dz;
+        double length = Math.sqrt(dx * dx + dy * dy + dz * dz);
+        return dot >= minCosAngle * length;
+    }
+
+    /**
+     * @return the closest valid target, or {@code null} if none could be found
+     */
+    public @Nullable LivingEntity findClosestTarget() {
+        long time = this.owner.world.getTime();
+
+        if (time == this.cachedTime && (this.cachedTarget == null || this.cachedTarget.isAlive())) {
+            return this.cachedTarget;
+        }
+
+        this.originX = this.owner.getX();
+        this.originY = this.owner.getEyeY();
+        this.originZ = this.owner.getZ();
+        this.look = this.minCosAngle > -1 ? this.owner.getRotationVec(1.0F) : null;
+        this.bestDistanceSq = Double.POSITIVE_INFINITY;
+        this.best = null;
+
+        // The predicate never accepts anything, the best candidate is tracked on the side
+        this.owner.world.getEntitiesIncludingUngeneratedChunks(LivingEntity.class, this.getSearchBox(), this::offer);
+
+        LivingEntity target = this.best;
+        this.best = null;
+        this.look = null;
+        this.cachedTime = time;
+        this.cachedTarget = target;
+        return target;
+    }
+
+    private boolean offer(LivingEntity candidate) {
+        if (candidate == this.owner) return false;
+
+        double dx = candidate.getX() - this.originX;
+        double dy = candidate.getY() - this.originY;
+        double dz = candidate.getZ() - this.originZ;
+        double distanceSq = dx * dx + dy * dy + dz * dz;
+
+        if (distanceSq >= this.bestDistanceSq) return false;
+
+        Vec3d look = this.look;
+        if (look != null) {
+            // Aim at the middle of the candidate, not its feet
+            double cy = candidate.getBodyY(0.5) - this.originY;
+            if (!isWithinCone(look, dx, cy, dz, this.minCosAngle)) return false;
+        }
+
+        if (this.targetPredicate.test(this.owner, candidate)) {
+            this.bestDistanceSq = distanceSq;
+            this.best = candidate;
+        }
+
+        return false;
+    }
+
+    private Box getSearchBox() {
+        return this.owner.getBoundingBox().expand(this.horizontalRange, this.verticalRange, this.horizontalRange);
+    }
+}
@@ -37,40 +37,37 @@ package ladysnake.requiem.common.entity.ability;
 import ladysnake.requiem.api.v1.entity.ability.AbilityType;
 import ladysnake.requiem.api.v1.entity.ability.MobAbilityController;
 import net.minecraft.entity.LivingEntity;
-import net.minecraft.entity.ai.TargetPredicate;
-import net.minecraft.util.math.Box;
 
 public class AutoAimAbility<E extends LivingEntity> extends IndirectAbilityBase<E> {
-    private final double searchRangeX;
-    private final double searchRangeY;
+    private final AbilityTargetQuery targetQuery;
     private final AbilityType type;
 
     public AutoAimAbility(E owner, AbilityType type, double horizontalSearchRange, double verticalSearchRange) {
+        this(owner, type, horizontalSearchRange, verticalSearchRange, 180);
+    }
+
+    /**
+     * @param maxAngle the maximum angle in degrees between the owner's look direction and a target
+     */
+    public AutoAimAbility(E owner, AbilityType type, double horizontalSearchRange, double verticalSearchRange, float maxAngle) {
         super(owner, 0);
-        this.searchRangeX = horizontalSearchRange;
-        this.searchRangeY = verticalSearchRange;
+        this.targetQuery = new AbilityTargetQuery(owner, horizontalSearchRange, verticalSearchRange, maxAngle);
         this.type = type;
     }
 
     @Override
     public boolean run() {
-        // method_21727 = getClosestEntity
-        LivingEntity target = this.owner.world.getClosestEntityIncludingUngeneratedChunks(
-            LivingEntity.class,
-            new TargetPredicate(),
-            this.owner,
-            this.owner.getX(),
-            this.owner.getY() + (double) this.owner.getStandingEyeHeight(),
-            this.owner.getZ(),
-            this.getSearchBox());
+        MobAbilityController abilityController = MobAbilityController.get(this.owner);
+
+        // No need to look for a target if the aimed ability cannot be used anyway
+        if (abilityController.getCooldownProgress(this.type) < 1) {
+            return false;
+        }
+
+        LivingEntity target = this.targetQuery.findClosestTarget();
         if (target != null) {
-            return MobAbilityController.get(this.owner).useDirect(type, target);
+            return abilityController.useDirect(this.type, target);
         }
         return false;
     }
-
-    private Box getSearchBox() {
-        double range = this.searchRangeX;
-        return this.owner.getBoundingBox().expand(range, searchRangeY, range);
-    }
 }
@@ -38,15 +38,35 @@ import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.ai.goal.Goal;
 import net.minecraft.entity.mob.MobEntity;
 
+import javax.annotation.Nullable;
+import java.util.function.Function;
+
 public class TickingGoalAbility<O extends MobEntity, T extends LivingEntity> extends DirectAbilityBase<O, T> {
-    private final Goal goal;
+    private final Function<? super O, ? extends Goal> goalFactory;
+    private @Nullable Goal goal;
     private boolean started;
 
     public TickingGoalAbility(O owner, Goal goal, int cooldown, int range, Class<T> targetType) {
         super(owner, cooldown, range, targetType);
+        this.goalFactory = o -> goal;
         this.goal = goal;
     }
 
+    /**
+     * @param goalFactory a factory creating the goal, only called the first time the ability is used
+     */
+    public TickingGoalAbility(O owner, Function<? super O, ? extends Goal> goalFactory, int cooldown, int range, Class<T> targetType) {
+        super(owner, cooldown, range, targetType);
+        this.goalFactory = goalFactory;
+    }
+
+    protected Goal getGoal() {
+        if (this.goal == null) {
+            this.goal = this.goalFactory.apply(this.owner);
+        }
+        return this.goal;
+    }
+
     @Override
     public boolean canTarget(T target) {
         return super.canTarget(target) && target.isAlive();
@@ -57,8 +77,9 @@ public class TickingGoalAbility<O extends MobEntity, T extends LivingEntity> ext
         if (this.owner.world.isClient) return true;
 
         owner.setTarget(entity);
+        Goal goal = this.getGoal();
         if (goal.canStart()) {
-            this.goal.start();
+            goal.start();
             this.beginCooldown();
             this.started = true;
             return true;
@@ -70,6 +91,7 @@ public class TickingGoalAbility<O extends MobEntity, T extends LivingEntity> ext
     public void update() {
         super.update();
         if (started) {
+            Goal goal = this.getGoal();
             if (goal.shouldContinue()) {
                 goal.tick();
             } else {
@@ -34,14 +34,21 @@
  */
 package ladysnake.requiem.common.entity.attribute;
 
-import java.util.OptionalDouble;
-import java.util.function.DoubleFunction;
-
-public interface NonDeterministicModifier extends DoubleFunction<OptionalDouble> {
-    @Override
-    OptionalDouble apply(double value);
+/**
+ * A modifier applied on top of an attribute's computed value every time it is queried.
+ *
+ * <p>Attribute values are read extremely often, so implementations should make {@link #isActive()}
+ * as cheap as possible. {@link #apply(double)} is only called while the modifier is active.
+ */
+public interface NonDeterministicModifier {
+    /**
+     * @return {@code true} if this modifier may currently change the attribute's value
+     */
+    boolean isActive();
 
-    default NonDeterministicModifier andThen(NonDeterministicModifier after) {
-        return value -> after.apply(this.apply(value).orElse(value));
-    }
+    /**
+     * @param value the attribute value, after regular modifiers and previous final modifiers have been applied
+     * @return the modified value
+     */
+    double apply(double value);
 }
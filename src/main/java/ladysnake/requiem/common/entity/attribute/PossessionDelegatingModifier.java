@@ -39,8 +39,6 @@ import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.attribute.EntityAttribute;
 import net.minecraft.entity.attribute.EntityAttributeInstance;
 
-import java.util.OptionalDouble;
-
 public class PossessionDelegatingModifier implements NonDeterministicModifier {
     private final EntityAttribute attribute;
     private final PossessionComponent handler;
@@ -50,20 +48,25 @@ public class PossessionDelegatingModifier implements NonDeterministicModifier {
         this.handler = handler;
     }
 
+    @Override
+    public boolean isActive() {
+        return this.handler.isPossessing();
+    }
+
     /**
-     * @return the attribute instance to which calls should be delegated
+     * @return the value of the possessed entity's attribute, if it has one
      */
     @Override
-    public OptionalDouble apply(double value) {
-        LivingEntity possessed = handler.getPossessedEntity();
+    public double apply(double value) {
+        LivingEntity possessed = this.handler.getPossessedEntity();
 
         if (possessed != null) {
             EntityAttributeInstance ret = possessed.getAttributeInstance(this.attribute);
             // the attribute can be null if it is not registered in the possessed entity
             if (ret != null) {
-                return OptionalDouble.of(ret.getValue());
+                return ret.getValue();
             }
         }
-        return OptionalDouble.empty();
+        return value;
     }
 }
@@ -42,6 +42,7 @@ import ladysnake.requiem.api.v1.entity.MovementRegistry;
 import ladysnake.requiem.api.v1.entity.ability.MobAbilityConfig;
 import ladysnake.requiem.api.v1.entity.ability.MobAbilityRegistry;
 import ladysnake.requiem.api.v1.internal.ApiInternals;
+import ladysnake.requiem.api.v1.possession.PossessedEntityRegistry;
 import ladysnake.requiem.api.v1.remnant.SoulbindingRegistry;
 import ladysnake.requiem.api.v1.util.SubDataManagerHelper;
 import ladysnake.requiem.common.impl.ability.DefaultedMobAbilityRegistry;
@@ -49,11 +50,15 @@ import ladysnake.requiem.common.impl.ability.ImmutableMobAbilityConfig;
 import ladysnake.requiem.common.impl.data.CommonSubDataManagerHelper;
 import ladysnake.requiem.common.impl.data.ServerSubDataManagerHelper;
 import ladysnake.requiem.common.impl.movement.MovementAltererManager;
+import ladysnake.requiem.common.impl.possession.PossessedEntityRegistryImpl;
 import ladysnake.requiem.common.impl.remnant.SoulbindingRegistryImpl;
 import ladysnake.requiem.common.impl.remnant.dialogue.DialogueManager;
+import ladysnake.requiem.common.tag.EntityTraitTable;
 import ladysnake.requiem.common.util.reflection.ReflectionHelper;
 import ladysnake.requiem.common.util.reflection.UncheckedReflectionException;
 import net.fabricmc.loader.api.FabricLoader;
+import net.minecraft.entity.EntityType;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.world.World;
 import org.apiguardian.api.API;
 
@@ -61,6 +66,7 @@ import java.lang.reflect.Field;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
 
@@ -79,6 +85,10 @@ public final class ApiInitializer {
                 new DefaultedMobAbilityRegistry(ImmutableMobAbilityConfig.DEFAULT));
             ReflectionHelper.<SoulbindingRegistry>setField(ApiInternals.class.getDeclaredField("soulbindingRegistry"),
                 new SoulbindingRegistryImpl());
+            ReflectionHelper.<ToLongFunction<EntityType<?>>>setField(ApiInternals.class.getDeclaredField("entityTraitGetter"),
+                EntityTraitTable::getTraits);
+            ReflectionHelper.<Function<ServerWorld, PossessedEntityRegistry>>setField(ApiInternals.class.getDeclaredField("possessedEntityRegistryGetter"),
+                PossessedEntityRegistryImpl::get);
             initSubDataManagers();
         } catch (IllegalAccessException | NoSuchFieldException e) {
             Requiem.LOGGER.error("Could not initialize the mod's API");
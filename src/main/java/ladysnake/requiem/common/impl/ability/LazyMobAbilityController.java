@@ -0,0 +1,120 @@
+/*
+ * Requiem
+ * Copyright (C) 2017-2021 Ladysnake
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses>.
+ *
+ * Linking this mod statically or dynamically with other
+ * modules is making a combined work based on this mod.
+ * Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *
+ * In addition, as a special exception, the copyright holders of
+ * this mod give you permission to combine this mod
+ * with free software programs or libraries that are released under the GNU LGPL
+ * and with code included in the standard release of Minecraft under All Rights Reserved (or
+ * modified versions of such code, with unchanged license).
+ * You may copy and distribute such a system following the terms of the GNU GPL for this mod
+ * and the licenses of the other code concerned.
+ *
+ * Note that people who make modified versions of this mod are not obligated to grant
+ * this special exception for their modified versions; it is their choice whether to do so.
+ * The GNU General Public License gives permission to release a modified version without this exception;
+ * this exception also makes it possible to release a modified version which carries forward this exception.
+ */
+package ladysnake.requiem.common.impl.ability;
+
+import ladysnake.requiem.api.v1.entity.ability.AbilityType;
+import ladysnake.requiem.api.v1.entity.ability.MobAbilityController;
+import ladysnake.requiem.api.v1.entity.ability.MobAbilityRegistry;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A {@link MobAbilityController} attached to every mob, which only builds the actual abilities
+ * once they are needed, that is when a player starts possessing the mob.
+ *
+ * <p>Most loaded mobs never get possessed, and building abilities can be costly (some create goals
+ * or go through reflection), so those mobs never get any. Once built, the abilities are kept
+ * for the rest of the mob's life, as they hold cooldowns that must outlast possession.
+ */
+public final class LazyMobAbilityController<T extends MobEntity> implements MobAbilityController {
+    private final T owner;
+    private @Nullable MobAbilityController abilities;
+
+    public LazyMobAbilityController(T owner) {
+        this.owner = owner;
+    }
+
+    private MobAbilityController getAbilities() {
+        MobAbilityController abilities = this.abilities;
+        if (abilities == null) {
+            abilities = new ImmutableMobAbilityController<>(MobAbilityRegistry.instance().getConfig(this.owner), this.owner);
+            this.abilities = abilities;
+        }
+        return abilities;
+    }
+
+    @Override
+    public double getRange(AbilityType type) {
+        return this.getAbilities().getRange(type);
+    }
+
+    @Override
+    public boolean canTarget(AbilityType type, Entity target) {
+        return this.getAbilities().canTarget(type, target);
+    }
+
+    @Override
+    public boolean useDirect(AbilityType type, Entity target) {
+        return this.getAbilities().useDirect(type, target);
+    }
+
+    @Override
+    public boolean useIndirect(AbilityType type) {
+        return this.getAbilities().useIndirect(type);
+    }
+
+    @Override
+    public float getCooldownProgress(AbilityType type) {
+        return this.getAbilities().getCooldownProgress(type);
+    }
+
+    @Override
+    public void tick() {
+        // Mobs that have never been possessed stop here
+        MobAbilityController abilities = this.abilities;
+        if (abilities != null) {
+            abilities.tick();
+        }
+    }
+
+    @Override
+    public void writeSyncPacket(PacketByteBuf buf, ServerPlayerEntity recipient) {
+        this.getAbilities().writeSyncPacket(buf, recipient);
+    }
+
+    @Override
+    public void applySyncPacket(PacketByteBuf buf) {
+        this.getAbilities().applySyncPacket(buf);
+    }
+
+    @Override
+    public Identifier getIconTexture(AbilityType type) {
+        return this.getAbilities().getIconTexture(type);
+    }
+}
@@ -70,6 +70,7 @@ public class PlayerAbilityController implements MobAbilityController, AutoSynced
     private AbilityType[] sortedAbilities = AbilityType.values();
 
     private MobAbilityController delegate = DummyMobAbilityController.INSTANCE;
+    private boolean syncPending;
 
     public PlayerAbilityController(PlayerEntity player) {
         soulAbilities = new ImmutableMobAbilityController<>(SOUL_CONFIG, player);
@@ -131,7 +132,17 @@ public class PlayerAbilityController implements MobAbilityController, AutoSynced
 
         this.targets.clear();
         this.sortAbilities();
-        KEY.sync(this.player);
+        this.scheduleSync();
+    }
+
+    /**
+     * Requests a sync of the current abilities' state with the client.
+     *
+     * <p>Requests are coalesced and flushed at the end of the player's next server tick,
+     * so that any number of state changes cost at most one packet per tick.
+     */
+    public void scheduleSync() {
+        this.syncPending = true;
     }
 
     private void sortAbilities() {
@@ -175,6 +186,16 @@ public class PlayerAbilityController implements MobAbilityController, AutoSynced
         delegate.tick();
     }
 
+    @Override
+    public void serverTick() {
+        this.tick();
+
+        if (this.syncPending) {
+            this.syncPending = false;
+            KEY.sync(this.player);
+        }
+    }
+
     @Override
     public boolean shouldSyncWith(ServerPlayerEntity player) {
         return player == this.player;
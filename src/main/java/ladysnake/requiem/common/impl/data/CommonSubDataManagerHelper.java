@@ -42,7 +42,7 @@ import java.util.List;
 import java.util.stream.Stream;
 
 public class CommonSubDataManagerHelper implements SubDataManagerHelper {
-    private List<SubDataManager<?>> managers = new ArrayList<>();
+    protected final List<SubDataManager<?>> managers = new ArrayList<>();
 
     @Override
     public void registerSubDataManager(SubDataManager<?> manager) {
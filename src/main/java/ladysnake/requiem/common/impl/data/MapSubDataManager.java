@@ -0,0 +1,88 @@
+/*
+ * Requiem
+ * Copyright (C) 2017-2021 Ladysnake
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses>.
+ *
+ * Linking this mod statically or dynamically with other
+ * modules is making a combined work based on this mod.
+ * Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *
+ * In addition, as a special exception, the copyright holders of
+ * this mod give you permission to combine this mod
+ * with free software programs or libraries that are released under the GNU LGPL
+ * and with code included in the standard release of Minecraft under All Rights Reserved (or
+ * modified versions of such code, with unchanged license).
+ * You may copy and distribute such a system following the terms of the GNU GPL for this mod
+ * and the licenses of the other code concerned.
+ *
+ * Note that people who make modified versions of this mod are not obligated to grant
+ * this special exception for their modified versions; it is their choice whether to do so.
+ * The GNU General Public License gives permission to release a modified version without this exception;
+ * this exception also makes it possible to release a modified version which carries forward this exception.
+ */
+package ladysnake.requiem.common.impl.data;
+
+import ladysnake.requiem.api.v1.util.SubDataManager;
+import net.minecraft.network.PacketByteBuf;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A {@link SubDataManager} holding a map of independent entries.
+ *
+ * <p>Each entry is encoded separately, which lets the synchronization code
+ * send only the entries that changed since the last time a client was synchronized.
+ *
+ * @param <K> the type of keys in the data map
+ * @param <V> the type of values in the data map
+ * @see SubDataSnapshot
+ */
+public interface MapSubDataManager<K, V> extends SubDataManager<Map<K, V>> {
+    /**
+     * @return an immutable view of the data currently applied to this manager.
+     * A new map instance must be returned after each call to {@link #apply(Object)}
+     */
+    Map<K, V> getEntries();
+
+    void writeKey(PacketByteBuf buf, K key);
+
+    K readKey(PacketByteBuf buf);
+
+    void writeValue(PacketByteBuf buf, V value);
+
+    V readValue(PacketByteBuf buf);
+
+    @Override
+    default void toPacket(PacketByteBuf buf) {
+        Map<K, V> entries = this.getEntries();
+        buf.writeVarInt(entries.size());
+        for (Map.Entry<K, V> entry : entries.entrySet()) {
+            this.writeKey(buf, entry.getKey());
+            this.writeValue(buf, entry.getValue());
+        }
+    }
+
+    @Override
+    default Map<K, V> loadFromPacket(PacketByteBuf buf) {
+        int nbEntries = buf.readVarInt();
+        Map<K, V> ret = new HashMap<>(nbEntries);
+        for (int i = 0; i < nbEntries; i++) {
+            K key = this.readKey(buf);
+            ret.put(key, this.readValue(buf));
+        }
+        return ret;
+    }
+}
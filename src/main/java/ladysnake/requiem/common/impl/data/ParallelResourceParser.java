@@ -0,0 +1,131 @@
+/*
+ * Requiem
+ * Copyright (C) 2017-2021 Ladysnake
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses>.
+ *
+ * Linking this mod statically or dynamically with other
+ * modules is making a combined work based on this mod.
+ * Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *
+ * In addition, as a special exception, the copyright holders of
+ * this mod give you permission to combine this mod
+ * with free software programs or libraries that are released under the GNU LGPL
+ * and with code included in the standard release of Minecraft under All Rights Reserved (or
+ * modified versions of such code, with unchanged license).
+ * You may copy and distribute such a system following the terms of the GNU GPL for this mod
+ * and the licenses of the other code concerned.
+ *
+ * Note that people who make modified versions of this mod are not obligated to grant
+ * this special exception for their modified versions; it is their choice whether to do so.
+ * The GNU General Public License gives permission to release a modified version without this exception;
+ * this exception also makes it possible to release a modified version which carries forward this exception.
+ */
+package ladysnake.requiem.common.impl.data;
+
+import com.google.gson.JsonParseException;
+import ladysnake.requiem.Requiem;
+import net.minecraft.resource.Resource;
+import net.minecraft.resource.ResourceManager;
+import net.minecraft.util.Identifier;
+
+import javax.annotation.Nullable;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Parses data pack resources in parallel on a reload executor.
+ *
+ * <p>Every resource is read through a buffered UTF-8 reader and parsed in its own task.
+ * Results are returned in the same order as the input, with {@code null} in place
+ * of the resources that could not be read or parsed. Failures are logged individually,
+ * then summarized once the whole batch is done.
+ */
+public final class ParallelResourceParser {
+    @FunctionalInterface
+    public interface Parser<T> {
+        T parse(Reader in) throws IOException;
+    }
+
+    public static BufferedReader openReader(Resource resource) {
+        return new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parses the resources found at the given locations.
+     *
+     * @param kind a human-readable description of the parsed data, used in log messages
+     */
+    public static <T> CompletableFuture<List<T>> parseAll(ResourceManager manager, Collection<Identifier> locations, Executor executor, String kind, Parser<T> parser) {
+        List<CompletableFuture<T>> tasks = new ArrayList<>(locations.size());
+        for (Identifier location : locations) {
+            tasks.add(CompletableFuture.supplyAsync(() -> parse(location, () -> manager.getResource(location), kind, parser), executor));
+        }
+        return collect(tasks, kind);
+    }
+
+    /**
+     * Parses already opened resources, typically obtained from {@link ResourceManager#getAllResources(Identifier)}.
+     *
+     * <p>Every resource gets closed once parsed.
+     *
+     * @param kind a human-readable description of the parsed data, used in log messages
+     */
+    public static <T> CompletableFuture<List<T>> parseAll(List<Resource> resources, Executor executor, String kind, Parser<T> parser) {
+        List<CompletableFuture<T>> tasks = new ArrayList<>(resources.size());
+        for (Resource resource : resources) {
+            tasks.add(CompletableFuture.supplyAsync(() -> parse(resource.getId(), () -> resource, kind, parser), executor));
+        }
+        return collect(tasks, kind);
+    }
+
+    @Nullable
+    private static <T> T parse(Identifier location, ResourceOpener opener, String kind, Parser<T> parser) {
+        try (Resource resource = opener.open(); Reader in = openReader(resource)) {
+            return parser.parse(in);
+        } catch (IOException | JsonParseException e) {
+            Requiem.LOGGER.error("[Requiem] Could not read {} from {}", kind, location, e);
+            return null;
+        }
+    }
+
+    private static <T> CompletableFuture<List<T>> collect(List<CompletableFuture<T>> tasks, String kind) {
+        return CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).thenApply(v -> {
+            List<T> results = new ArrayList<>(tasks.size());
+            int failures = 0;
+            for (CompletableFuture<T> task : tasks) {
+                T result = task.join();
+                if (result == null) failures++;
+                results.add(result);
+            }
+            if (failures > 0) {
+                Requiem.LOGGER.warn("[Requiem] {} out of {} {} files could not be loaded", failures, tasks.size(), kind);
+            }
+            return results;
+        });
+    }
+
+    @FunctionalInterface
+    private interface ResourceOpener {
+        Resource open() throws IOException;
+    }
+}
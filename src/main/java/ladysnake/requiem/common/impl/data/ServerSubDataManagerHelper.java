@@ -36,10 +36,45 @@ package ladysnake.requiem.common.impl.data;
 
 import ladysnake.requiem.Requiem;
 import ladysnake.requiem.api.v1.util.SubDataManager;
+import ladysnake.requiem.api.v1.util.SubDataManagerHelper;
+import ladysnake.requiem.common.network.RequiemNetworking;
 import net.fabricmc.fabric.api.resource.ResourceManagerHelper;
+import net.minecraft.network.packet.s2c.play.CustomPayloadS2CPacket;
 import net.minecraft.resource.ResourceType;
+import net.minecraft.server.network.ServerPlayNetworkHandler;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.util.Identifier;
 
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Registers server sub data managers and keeps clients synchronized with them.
+ *
+ * <p>Every time the data changes, the server increments a generation counter.
+ * A client that was synchronized with the previous generation receives a delta of the changed entries,
+ * while other clients only receive content hashes, and request the full data if they do not have it cached.
+ * Each kind of packet is built once per generation and shared by every recipient.
+ *
+ * <p>All synchronization methods must be called on the server thread.
+ */
 public class ServerSubDataManagerHelper extends CommonSubDataManagerHelper {
+    private final Map<SubDataManager<?>, Object> snapshotSources = new IdentityHashMap<>();
+    private final Map<ServerPlayNetworkHandler, Integer> knownGenerations = new WeakHashMap<>();
+    private Map<Identifier, SubDataSnapshot> snapshots = Collections.emptyMap();
+    private Map<Identifier, SubDataSnapshot> previousSnapshots = Collections.emptyMap();
+    private int generation;
+    private @Nullable CustomPayloadS2CPacket hashesPacket;
+    private @Nullable CustomPayloadS2CPacket fullPacket;
+    private @Nullable CustomPayloadS2CPacket deltaPacket;
+
+    public static ServerSubDataManagerHelper getInstance() {
+        return (ServerSubDataManagerHelper) SubDataManagerHelper.getServerHelper();
+    }
 
     @Override
     public void registerSubDataManager(SubDataManager<?> serverManager) {
@@ -47,4 +82,64 @@ public class ServerSubDataManagerHelper extends CommonSubDataManagerHelper {
         ResourceManagerHelper.get(ResourceType.SERVER_DATA).registerReloadListener(serverManager);
         Requiem.LOGGER.info("[Requiem] Registered sub data manager {}", serverManager);
     }
+
+    /**
+     * Brings a player's client up to date with the current sub data.
+     */
+    public void sync(ServerPlayerEntity player) {
+        this.refreshSnapshots();
+        Integer knownGeneration = this.knownGenerations.put(player.networkHandler, this.generation);
+
+        if (knownGeneration == null || knownGeneration < this.generation - 1) {
+            if (this.hashesPacket == null) {
+                this.hashesPacket = RequiemNetworking.createDataSyncMessage(this.snapshots);
+            }
+            RequiemNetworking.sendTo(player, this.hashesPacket);
+        } else if (knownGeneration == this.generation - 1) {
+            if (this.deltaPacket == null) {
+                this.deltaPacket = RequiemNetworking.createDataDeltaMessage(this.previousSnapshots, this.snapshots);
+            }
+            RequiemNetworking.sendTo(player, this.deltaPacket);
+        }
+        // otherwise, the client is already up to date
+    }
+
+    /**
+     * Sends the full sub data to a player whose client could not find it in its cache.
+     */
+    public void sendFullData(ServerPlayerEntity player) {
+        this.refreshSnapshots();
+        this.knownGenerations.put(player.networkHandler, this.generation);
+        if (this.fullPacket == null) {
+            this.fullPacket = RequiemNetworking.createFullDataSyncMessage(this.snapshots);
+        }
+        RequiemNetworking.sendTo(player, this.fullPacket);
+    }
+
+    private void refreshSnapshots() {
+        Map<Identifier, SubDataSnapshot> updated = null;
+
+        for (SubDataManager<?> manager : this.managers) {
+            // map managers swap their entry map on reload, other managers have to be encoded again every time
+            Object source = manager instanceof MapSubDataManager ? ((MapSubDataManager<?, ?>) manager).getEntries() : null;
+            if (source != null && this.snapshotSources.get(manager) == source) continue;
+
+            this.snapshotSources.put(manager, source);
+            SubDataSnapshot snapshot = SubDataSnapshot.of(manager);
+            if (snapshot.getHash() != this.snapshots.getOrDefault(manager.getFabricId(), SubDataSnapshot.EMPTY).getHash()) {
+                if (updated == null) updated = new LinkedHashMap<>(this.snapshots);
+                updated.put(manager.getFabricId(), snapshot);
+            }
+        }
+
+        if (updated != null) {
+            this.previousSnapshots = this.snapshots;
+            this.snapshots = updated;
+            this.generation++;
+            this.hashesPacket = null;
+            this.fullPacket = null;
+            this.deltaPacket = null;
+            Requiem.LOGGER.debug("[Requiem] Sub data changed, now at generation {}", this.generation);
+        }
+    }
 }
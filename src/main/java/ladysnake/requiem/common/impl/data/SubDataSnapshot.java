@@ -0,0 +1,214 @@
+/*
+ * Requiem
+ * Copyright (C) 2017-2021 Ladysnake
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses>.
+ *
+ * Linking this mod statically or dynamically with other
+ * modules is making a combined work based on this mod.
+ * Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *
+ * In addition, as a special exception, the copyright holders of
+ * this mod give you permission to combine this mod
+ * with free software programs or libraries that are released under the GNU LGPL
+ * and with code included in the standard release of Minecraft under All Rights Reserved (or
+ * modified versions of such code, with unchanged license).
+ * You may copy and distribute such a system following the terms of the GNU GPL for this mod
+ * and the licenses of the other code concerned.
+ *
+ * Note that people who make modified versions of this mod are not obligated to grant
+ * this special exception for their modified versions; it is their choice whether to do so.
+ * The GNU General Public License gives permission to release a modified version without this exception;
+ * this exception also makes it possible to release a modified version which carries forward this exception.
+ */
+package ladysnake.requiem.common.impl.data;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import ladysnake.requiem.api.v1.util.SubDataManager;
+import ladysnake.requiem.common.network.RequiemNetworking;
+import net.minecraft.network.PacketByteBuf;
+
+import javax.annotation.Nullable;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The encoded form of a {@link SubDataManager}'s data, split into entries.
+ *
+ * <p>A snapshot is identified by a content hash, which does not depend on the iteration
+ * order of the original data. Two snapshots with the same hash are considered interchangeable.
+ *
+ * <p>Data managers that do not implement {@link MapSubDataManager} are stored as a single entry with an empty key.
+ */
+public final class SubDataSnapshot {
+    public static final SubDataSnapshot EMPTY = new SubDataSnapshot(Collections.emptyMap());
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+    private static final ByteBuffer SINGLE_KEY = ByteBuffer.wrap(new byte[0]);
+
+    private final Map<ByteBuffer, byte[]> entries;
+    private final long hash;
+
+    private SubDataSnapshot(Map<ByteBuffer, byte[]> entries) {
+        this.entries = entries;
+        long hash = 0;
+        for (Map.Entry<ByteBuffer, byte[]> entry : entries.entrySet()) {
+            // summing entry hashes keeps the result independent of map ordering
+            hash += HASH_FUNCTION.newHasher()
+                .putBytes(entry.getKey().array())
+                .putBytes(entry.getValue())
+                .hash().asLong();
+        }
+        this.hash = hash;
+    }
+
+    public static SubDataSnapshot of(SubDataManager<?> manager) {
+        Map<ByteBuffer, byte[]> entries = new HashMap<>();
+        PacketByteBuf buf = RequiemNetworking.createEmptyBuffer();
+        if (manager instanceof MapSubDataManager) {
+            encodeEntries((MapSubDataManager<?, ?>) manager, buf, entries);
+        } else {
+            manager.toPacket(buf);
+            entries.put(SINGLE_KEY, readAll(buf));
+        }
+        buf.release();
+        return new SubDataSnapshot(entries);
+    }
+
+    private static <K, V> void encodeEntries(MapSubDataManager<K, V> manager, PacketByteBuf buf, Map<ByteBuffer, byte[]> out) {
+        for (Map.Entry<K, V> entry : manager.getEntries().entrySet()) {
+            manager.writeKey(buf, entry.getKey());
+            byte[] key = readAll(buf);
+            manager.writeValue(buf, entry.getValue());
+            out.put(ByteBuffer.wrap(key), readAll(buf));
+        }
+    }
+
+    private static byte[] readAll(PacketByteBuf buf) {
+        byte[] bytes = new byte[buf.readableBytes()];
+        buf.readBytes(bytes);
+        buf.clear();
+        return bytes;
+    }
+
+    public long getHash() {
+        return this.hash;
+    }
+
+    /**
+     * Recreates the payload expected by {@link SubDataManager#loadFromPacket(PacketByteBuf)} from this snapshot.
+     */
+    public PacketByteBuf toManagerPacket(SubDataManager<?> manager) {
+        PacketByteBuf buf = RequiemNetworking.createEmptyBuffer();
+        if (manager instanceof MapSubDataManager) {
+            buf.writeVarInt(this.entries.size());
+            for (Map.Entry<ByteBuffer, byte[]> entry : this.entries.entrySet()) {
+                buf.writeBytes(entry.getKey().array());
+                buf.writeBytes(entry.getValue());
+            }
+        } else {
+            byte[] payload = this.entries.get(SINGLE_KEY);
+            if (payload != null) {
+                buf.writeBytes(payload);
+            }
+        }
+        return buf;
+    }
+
+    public void toPacket(PacketByteBuf buf) {
+        buf.writeLong(this.hash);
+        buf.writeVarInt(this.entries.size());
+        for (Map.Entry<ByteBuffer, byte[]> entry : this.entries.entrySet()) {
+            buf.writeByteArray(entry.getKey().array());
+            buf.writeByteArray(entry.getValue());
+        }
+    }
+
+    public static SubDataSnapshot fromPacket(PacketByteBuf buf) {
+        long expectedHash = buf.readLong();
+        int nbEntries = buf.readVarInt();
+        Map<ByteBuffer, byte[]> entries = new HashMap<>(nbEntries);
+        for (int i = 0; i < nbEntries; i++) {
+            entries.put(ByteBuffer.wrap(buf.readByteArray()), buf.readByteArray());
+        }
+        return checkHash(new SubDataSnapshot(entries), expectedHash);
+    }
+
+    /**
+     * Writes the entries that were removed or changed between {@code previous} and this snapshot.
+     */
+    public void writeDelta(PacketByteBuf buf, SubDataSnapshot previous) {
+        buf.writeLong(previous.hash);
+        buf.writeLong(this.hash);
+
+        int removedCountIndex = buf.writerIndex();
+        buf.writeInt(0);
+        int nbRemoved = 0;
+        for (ByteBuffer key : previous.entries.keySet()) {
+            if (!this.entries.containsKey(key)) {
+                buf.writeByteArray(key.array());
+                nbRemoved++;
+            }
+        }
+        buf.setInt(removedCountIndex, nbRemoved);
+
+        int changedCountIndex = buf.writerIndex();
+        buf.writeInt(0);
+        int nbChanged = 0;
+        for (Map.Entry<ByteBuffer, byte[]> entry : this.entries.entrySet()) {
+            if (!Arrays.equals(entry.getValue(), previous.entries.get(entry.getKey()))) {
+                buf.writeByteArray(entry.getKey().array());
+                buf.writeByteArray(entry.getValue());
+                nbChanged++;
+            }
+        }
+        buf.setInt(changedCountIndex, nbChanged);
+    }
+
+    /**
+     * Reads a delta written by {@link #writeDelta(PacketByteBuf, SubDataSnapshot)} and applies it to this snapshot.
+     *
+     * <p>The delta is always fully consumed from the buffer, even if it cannot be applied.
+     *
+     * @return the resulting snapshot, or {@code null} if the delta was not computed against this snapshot
+     */
+    @Nullable
+    public SubDataSnapshot applyDelta(PacketByteBuf buf) {
+        long previousHash = buf.readLong();
+        long expectedHash = buf.readLong();
+        Map<ByteBuffer, byte[]> entries = new HashMap<>(this.entries);
+        int nbRemoved = buf.readInt();
+        for (int i = 0; i < nbRemoved; i++) {
+            entries.remove(ByteBuffer.wrap(buf.readByteArray()));
+        }
+        int nbChanged = buf.readInt();
+        for (int i = 0; i < nbChanged; i++) {
+            entries.put(ByteBuffer.wrap(buf.readByteArray()), buf.readByteArray());
+        }
+        if (previousHash != this.hash) {
+            return null;
+        }
+        return checkHash(new SubDataSnapshot(entries), expectedHash);
+    }
+
+    private static SubDataSnapshot checkHash(SubDataSnapshot snapshot, long expectedHash) {
+        if (snapshot.hash != expectedHash) {
+            throw new IllegalStateException("Sub data snapshot hash mismatch: expected " + expectedHash + ", got " + snapshot.hash);
+        }
+        return snapshot;
+    }
+}
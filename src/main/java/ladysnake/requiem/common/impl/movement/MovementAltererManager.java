@@ -36,13 +36,12 @@ package ladysnake.requiem.common.impl.movement;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.JsonIOException;
-import com.google.gson.JsonSyntaxException;
 import com.google.gson.reflect.TypeToken;
 import ladysnake.requiem.Requiem;
 import ladysnake.requiem.api.v1.entity.MovementConfig;
 import ladysnake.requiem.api.v1.entity.MovementRegistry;
-import ladysnake.requiem.api.v1.util.SubDataManager;
+import ladysnake.requiem.common.impl.data.MapSubDataManager;
+import ladysnake.requiem.common.impl.data.ParallelResourceParser;
 import ladysnake.requiem.common.util.EntityTypeAdapter;
 import ladysnake.requiem.common.util.TriStateTypeAdapter;
 import net.fabricmc.fabric.api.util.TriState;
@@ -55,14 +54,14 @@ import net.minecraft.util.profiler.Profiler;
 import net.minecraft.util.registry.Registry;
 
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.lang.reflect.Type;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 
-public final class MovementAltererManager implements SubDataManager<Map<EntityType<?>, SerializableMovementConfig>>, MovementRegistry {
+public final class MovementAltererManager implements MapSubDataManager<EntityType<?>, SerializableMovementConfig>, MovementRegistry {
     public static final Gson GSON = new GsonBuilder().setPrettyPrinting()
         // Replacing this TypeToken with a regular class will burn gson to the ground
         .registerTypeAdapter(new TypeToken<EntityType<?>>() {}.getType(), new EntityTypeAdapter())
@@ -71,55 +70,65 @@ public final class MovementAltererManager implements SubDataManager<Map<EntityTy
     public static final Identifier LOCATION = Requiem.id("entity_mobility.json");
     private static final Type TYPE = new TypeToken<Map<EntityType<?>, SerializableMovementConfig>>() {}.getType();
     public static final Identifier LISTENER_ID = Requiem.id("movement_alterer");
+    /**Shared config for entity types without an entry, must never be modified*/
+    private static final SerializableMovementConfig DEFAULT_CONFIG = new SerializableMovementConfig();
 
-    private final Map<EntityType<?>, SerializableMovementConfig> entityMovementConfigs = new HashMap<>();
+    private volatile Map<EntityType<?>, SerializableMovementConfig> entityMovementConfigs = Collections.emptyMap();
 
     @Override
     public void apply(Map<EntityType<?>, SerializableMovementConfig> data) {
-        entityMovementConfigs.clear();
-        entityMovementConfigs.putAll(data);
+        entityMovementConfigs = Collections.unmodifiableMap(new HashMap<>(data));
     }
 
     @Override
-    public void toPacket(PacketByteBuf buf) {
-        buf.writeVarInt(entityMovementConfigs.size());
-        for (Map.Entry<EntityType<?>, SerializableMovementConfig> entry : entityMovementConfigs.entrySet()) {
-            buf.writeIdentifier(EntityType.getId(entry.getKey()));
-            entry.getValue().toPacket(buf);
-        }
+    public Map<EntityType<?>, SerializableMovementConfig> getEntries() {
+        return entityMovementConfigs;
     }
 
     @Override
-    public Map<EntityType<?>, SerializableMovementConfig> loadFromPacket(PacketByteBuf buf) {
-        Map<EntityType<?>, SerializableMovementConfig> ret = new HashMap<>();
-        int nbConfigs = buf.readVarInt();
-        for (int i = 0; i < nbConfigs; i++) {
-            Identifier id = buf.readIdentifier();
-            SerializableMovementConfig conf = new SerializableMovementConfig();
-            conf.fromPacket(buf);
-            ret.put(Registry.ENTITY_TYPE.get(id), conf);
-        }
-        return ret;
+    public void writeKey(PacketByteBuf buf, EntityType<?> key) {
+        buf.writeIdentifier(EntityType.getId(key));
+    }
+
+    @Override
+    public EntityType<?> readKey(PacketByteBuf buf) {
+        return Registry.ENTITY_TYPE.get(buf.readIdentifier());
+    }
+
+    @Override
+    public void writeValue(PacketByteBuf buf, SerializableMovementConfig value) {
+        value.toPacket(buf);
+    }
+
+    @Override
+    public SerializableMovementConfig readValue(PacketByteBuf buf) {
+        SerializableMovementConfig conf = new SerializableMovementConfig();
+        conf.fromPacket(buf);
+        return conf;
     }
 
     @Override
     public CompletableFuture<Map<EntityType<?>, SerializableMovementConfig>> load(ResourceManager manager, Profiler profiler, Executor executor) {
         return CompletableFuture.supplyAsync(() -> {
-            Map<EntityType<?>, SerializableMovementConfig> ret = new HashMap<>();
             try {
-                for (Resource resource : manager.getAllResources(LOCATION)) {
-                    try {
-                        ret.putAll(GSON.fromJson(new InputStreamReader(resource.getInputStream()), TYPE));
-                        ret.remove(null);   // Any EntityType that does not exist gets mapped to null
-                    } catch (JsonIOException | JsonSyntaxException e) {
-                        Requiem.LOGGER.warn("Could not read movement config from JSON file", e);
-                    }
-                }
+                return manager.getAllResources(LOCATION);
             } catch (IOException e) {
                 Requiem.LOGGER.error("Could not read movement configs", e);
+                return Collections.<Resource>emptyList();
+            }
+        }, executor).thenCompose(resources -> ParallelResourceParser.parseAll(
+            resources, executor, "movement config", in -> GSON.<Map<EntityType<?>, SerializableMovementConfig>>fromJson(in, TYPE)
+        )).thenApply(configs -> {
+            Map<EntityType<?>, SerializableMovementConfig> ret = new HashMap<>();
+            // Merge in data pack order, so that later packs override earlier ones
+            for (Map<EntityType<?>, SerializableMovementConfig> config : configs) {
+                if (config != null) {
+                    ret.putAll(config);
+                }
             }
+            ret.remove(null);   // Any EntityType that does not exist gets mapped to null
             return ret;
-        }, executor);
+        });
     }
 
     @Override
@@ -129,7 +138,7 @@ public final class MovementAltererManager implements SubDataManager<Map<EntityTy
 
     @Override
     public MovementConfig getEntityMovementConfig(EntityType<?> type) {
-        return this.entityMovementConfigs.getOrDefault(type, new SerializableMovementConfig());
+        return this.entityMovementConfigs.getOrDefault(type, DEFAULT_CONFIG);
     }
 
     @Override
@@ -45,27 +45,23 @@ import ladysnake.requiem.api.v1.entity.MovementConfig;
 import ladysnake.requiem.api.v1.entity.movement.SwimMode;
 import ladysnake.requiem.api.v1.entity.movement.WalkMode;
 import ladysnake.requiem.api.v1.possession.PossessionComponent;
-import ladysnake.requiem.api.v1.remnant.RemnantComponent;
+import ladysnake.requiem.common.entity.internal.PhasingEntity;
 import ladysnake.requiem.common.network.RequiemNetworking;
 import ladysnake.requiem.common.particle.RequiemParticleTypes;
 import ladysnake.requiem.common.sound.RequiemSoundEvents;
-import ladysnake.requiem.common.tag.RequiemEntityTypeTags;
 import ladysnake.requiem.mixin.common.access.EntityAccessor;
-import net.fabricmc.fabric.api.util.TriState;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.network.ClientPlayerEntity;
 import net.minecraft.entity.Entity;
-import net.minecraft.entity.EntityType;
-import net.minecraft.entity.Flutterer;
 import net.minecraft.entity.LivingEntity;
-import net.minecraft.entity.mob.FlyingEntity;
-import net.minecraft.entity.mob.SlimeEntity;
-import net.minecraft.entity.mob.WaterCreatureEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.PacketByteBuf;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.tag.FluidTags;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.Vec3d;
 import org.jetbrains.annotations.NotNull;
 
@@ -77,14 +73,35 @@ import static ladysnake.requiem.api.v1.entity.MovementConfig.MovementMode.*;
 public class PlayerMovementAlterer implements MovementAlterer {
     public static final AbilitySource MOVEMENT_ALTERER_ABILITIES = Pal.getAbilitySource(Requiem.id("movement_alterer"));
     public static final int SYNC_NO_CLIP = 1;
-    public static final int SYNC_PHASING_PARTICLES = 2;
+    /**Ticks given to a player that just started no-clipping to actually get into the wall*/
+    private static final int NO_CLIP_GRACE_TICKS = 5;
 
     @Nullable
     private MovementConfig config;
+    /**{@link #config}, resolved for {@link #resolvedBody}*/
+    @Nullable
+    private ResolvedMovementConfig resolvedConfig;
+    @Nullable
+    private Entity resolvedBody;
     private final PlayerEntity player;
-    private Vec3d lastVelocity = Vec3d.ZERO;
+    private double lastVelocityX;
+    private double lastVelocityY;
+    private double lastVelocityZ;
     private int ticksAgainstWall = 0;
     private boolean noClipping = false;
+    /**Whether the player is trying to move in the direction it is looking at, as last reported by the client*/
+    private boolean pushingForward;
+    /**Whether {@link #insideWall} needs to be probed again*/
+    private boolean insideWallStale = true;
+    /**Result of the last inside-wall probe, valid as long as the probed block area stays the same*/
+    private boolean insideWall;
+    // Block area covered by the player's hitbox at the last inside-wall probe
+    private int probedMinX;
+    private int probedMinY;
+    private int probedMinZ;
+    private int probedMaxX;
+    private int probedMaxY;
+    private int probedMaxZ;
 
     private boolean underwaterJumpAscending;
     private double underwaterJumpStartY;
@@ -96,18 +113,21 @@ public class PlayerMovementAlterer implements MovementAlterer {
     @Override
     public void setConfig(@CheckForNull MovementConfig config) {
         this.config = config;
+        this.resolvedConfig = null;
+        this.resolvedBody = null;
         this.applyConfig();
     }
 
     @Override
     public void applyConfig() {
         if (!this.player.world.isClient) {
-            if (getActualFlightMode(config, player) == DISABLED) {
+            ResolvedMovementConfig config = this.getResolvedConfig();
+            if (config == null || config.getFlightMode() == DISABLED) {
                 Pal.revokeAbility(player, VanillaAbilities.ALLOW_FLYING, MOVEMENT_ALTERER_ABILITIES);
             } else {
                 Pal.grantAbility(player, VanillaAbilities.ALLOW_FLYING, MOVEMENT_ALTERER_ABILITIES);
             }
-            this.hugWall(false);
+            this.stopPhasing();
             this.underwaterJumpAscending = false;
         }
     }
@@ -115,8 +135,9 @@ public class PlayerMovementAlterer implements MovementAlterer {
     @CheckEnv(Env.CLIENT)
     @Override
     public void alterControls() {
-        if (this.config != null
-            && getActualSwimMode(this.config, getPlayerOrPossessed(this.player)) == SwimMode.FLOATING
+        ResolvedMovementConfig config = this.getResolvedConfig();
+        if (config != null
+            && config.getSwimMode() == SwimMode.FLOATING
             && isInFluid(this.player)
             && this.player.getRandom().nextFloat() < 0.8F
         ) {
@@ -131,7 +152,8 @@ public class PlayerMovementAlterer implements MovementAlterer {
 
     @Override
     public float getSwimmingAcceleration(float baseAcceleration) {
-        if (this.config != null && getActualSwimMode(this.config, getPlayerOrPossessed(player)) == SwimMode.FORCED) {
+        ResolvedMovementConfig config = this.getResolvedConfig();
+        if (config != null && config.getSwimMode() == SwimMode.FORCED) {
             return 0.96F;
         }
         return baseAcceleration;
@@ -139,7 +161,8 @@ public class PlayerMovementAlterer implements MovementAlterer {
 
     @Override
     public double getSwimmingUpwardsVelocity(double baseUpwardsVelocity) {
-        if (this.config != null && getActualSwimMode(this.config, getPlayerOrPossessed(player)) == SwimMode.SINKING) {
+        ResolvedMovementConfig config = this.getResolvedConfig();
+        if (config != null && config.getSwimMode() == SwimMode.SINKING) {
             double y = this.player.getY();
             if (this.player.isOnGround()) {    // starting the jump
                 this.underwaterJumpStartY = y;
@@ -162,20 +185,9 @@ public class PlayerMovementAlterer implements MovementAlterer {
     public void clientTick() {
         ClientPlayerEntity mainPlayer = MinecraftClient.getInstance().player;
         if (this.config != null && this.player == mainPlayer) {
-            if (this.config.canPhaseThroughWalls()) {
-                if (!this.noClipping && !this.player.noClip) {
-                    Vec3d movement = getIntendedMovement(this.player);
-                    Vec3d adjusted = ((EntityAccessor) this.player).requiem$invokeAdjustMovementForCollisions(movement);
-                    // 10.0 is a magic constant that corresponds to mostly blocked movement
-                    if (movement.length() / adjusted.length() > 10.0 && this.player.getRotationVector().dotProduct(movement.normalize()) > 0.5) {
-                        this.ticksAgainstWall++;
-                        RequiemNetworking.sendHugWallMessage(true);
-                    } else if (this.ticksAgainstWall > 0) {
-                        RequiemNetworking.sendHugWallMessage(false);
-                    }
-                } else if (this.noClipping && this.player.getRandom().nextFloat() > 0.8f) {
-                    this.playPhaseEffects();
-                }
+            this.setClientPushingForward(this.config.canPhaseThroughWalls() && isPushingForward(this.player));
+            if (this.noClipping && this.player.getRandom().nextFloat() > 0.8f) {
+                this.playPhaseEffects();
             }
             if (this.config.getWalkMode() == WalkMode.JUMPY && this.player.isOnGround() && !getIntendedMovement(player).equals(Vec3d.ZERO)) {
                 this.player.jump();
@@ -184,18 +196,27 @@ public class PlayerMovementAlterer implements MovementAlterer {
                 this.underwaterJumpAscending = false;
             }
         }
-        if (this.ticksAgainstWall < 0) {
-            this.ticksAgainstWall++;
-        } else if (this.noClipping) {
-            this.noClipping = false;    // disable to check whether there really are blocks
-            if (this.player.world.isSpaceEmpty(this.player)) {
-                RequiemNetworking.sendHugWallMessage(false);
-            }
-            this.noClipping = true;
-        }
         this.tick();
     }
 
+    /**
+     * Notifies the server of the player's movement intent, only when it actually changes.
+     * The server checks for walls and times the transition to no-clipping on its own.
+     */
+    @CheckEnv(Env.CLIENT)
+    private void setClientPushingForward(boolean pushing) {
+        if (pushing != this.pushingForward) {
+            this.pushingForward = pushing;
+            RequiemNetworking.sendHugWallMessage(pushing);
+        }
+    }
+
+    @CheckEnv(Env.CLIENT)
+    private static boolean isPushingForward(PlayerEntity player) {
+        Vec3d movement = getIntendedMovement(player);
+        return !movement.equals(Vec3d.ZERO) && player.getRotationVector().dotProduct(movement.normalize()) > 0.5;
+    }
+
     @NotNull
     private static Vec3d getIntendedMovement(PlayerEntity player) {
         if (player instanceof ClientPlayerEntity) {
@@ -208,47 +229,154 @@ public class PlayerMovementAlterer implements MovementAlterer {
 
     @Override
     public void tick() {
-        if (this.config == null) {
+        ResolvedMovementConfig config = this.getResolvedConfig();
+        if (config == null) {
             return;
         }
-        LivingEntity body = getPlayerOrPossessed(player);
-        SwimMode swimMode = getActualSwimMode(config, body);
+        SwimMode swimMode = config.getSwimMode();
         if (swimMode == SwimMode.FORCED) {
             player.setSwimming(true);
         } else if (swimMode == SwimMode.DISABLED) {
             player.setSwimming(false);
         }
-        if (getActualFlightMode(config, body) == FORCED || this.noClipping) {
+        if (config.getFlightMode() == FORCED || this.noClipping) {
             this.player.abilities.flying = true;
         }
-        if (this.player.isOnGround() && config.shouldFlopOnLand() && this.player.world.getFluidState(this.player.getBlockPos()).isEmpty()) {
+        if (config.shouldFlopOnLand() && this.player.isOnGround() && this.player.world.getFluidState(this.player.getBlockPos()).isEmpty()) {
             this.player.jump();
         }
         Vec3d velocity = this.player.getVelocity();
-        velocity = applyGravity(velocity, this.config.getAddedGravity());
-        velocity = applyFallSpeedModifier(velocity, this.config.getFallSpeedModifier());
-        velocity = applyInertia(velocity, this.config.getInertia());
-        this.player.setVelocity(velocity);
-        this.lastVelocity = velocity;
+        double velocityX = velocity.x;
+        double velocityY = velocity.y;
+        double velocityZ = velocity.z;
+        if (config.altersVelocity()) {
+            // gravity
+            velocityY -= config.getAddedGravity();
+            // fall speed modifier
+            if (!this.player.isOnGround() && velocityY < 0) {
+                velocityY *= config.getFallSpeedModifier();
+            }
+            // inertia: velocity = velocity * (1 - inertia) + lastVelocity * inertia
+            float inertia = config.getInertia();
+            velocityX = velocityX * (1 - inertia) + this.lastVelocityX * inertia;
+            velocityY = velocityY * (1 - inertia) + this.lastVelocityY * inertia;
+            velocityZ = velocityZ * (1 - inertia) + this.lastVelocityZ * inertia;
+            this.player.setVelocity(velocityX, velocityY, velocityZ);
+        }
+        this.lastVelocityX = velocityX;
+        this.lastVelocityY = velocityY;
+        this.lastVelocityZ = velocityZ;
+    }
+
+    @Nullable
+    private ResolvedMovementConfig getResolvedConfig() {
+        if (this.config == null) {
+            return null;
+        }
+        LivingEntity body = getPlayerOrPossessed(this.player);
+        if (this.resolvedConfig == null || body != this.resolvedBody) {
+            this.resolvedConfig = ResolvedMovementConfig.resolve(this.config, body);
+            this.resolvedBody = body;
+        }
+        return this.resolvedConfig;
     }
 
     @Override
-    public void hugWall(boolean hugging) {
-        if (this.config != null && this.config.canPhaseThroughWalls() && hugging) {
+    public void serverTick() {
+        if (this.noClipping) {
+            if (this.ticksAgainstWall < 0) {
+                this.ticksAgainstWall++;
+            } else if (!this.isInsideWall()) {
+                this.stopPhasing();
+            }
+        } else if (this.pushingForward && this.config != null && this.config.canPhaseThroughWalls() && !this.player.noClip && this.isAgainstWall()) {
             this.ticksAgainstWall++;
 
-            if (this.ticksAgainstWall > 60 && !this.noClipping) {
-                this.noClipping = true;
-                this.ticksAgainstWall = 0;
+            if (this.ticksAgainstWall > 60) {
+                this.setNoClipping(true);
+                this.ticksAgainstWall = -NO_CLIP_GRACE_TICKS;
                 KEY.sync(this.player, (buf, player) -> writeToPacket(buf, SYNC_NO_CLIP), player -> shouldSyncWith(player, SYNC_NO_CLIP));
             } else if (this.ticksAgainstWall % 10 == 0) {
-                KEY.sync(this.player, (buf, player) -> writeToPacket(buf, SYNC_PHASING_PARTICLES), player -> shouldSyncWith(player, SYNC_PHASING_PARTICLES));
+                RequiemNetworking.sendPhasingParticlesMessage(this.player);
             }
         } else {
             this.ticksAgainstWall = 0;
-            this.noClipping = false;
-            KEY.sync(this.player, (buf, player) -> writeToPacket(buf, SYNC_NO_CLIP), player -> shouldSyncWith(player, SYNC_NO_CLIP));
         }
+        this.tick();
+    }
+
+    /**
+     * Checks whether the player is pressed against a block.
+     *
+     * <p>This reuses the collision results of the last {@link Entity#move} call on the server,
+     * instead of probing the world again. Combined with the client's reported intent,
+     * it means the player is walking into a wall in the direction it is looking at.
+     */
+    private boolean isAgainstWall() {
+        return this.player.horizontalCollision;
+    }
+
+    /**
+     * Checks whether the player's hitbox still overlaps solid blocks.
+     *
+     * <p>The result is cached until the player's hitbox covers a different block area,
+     * or until a block changes in or next to that area (see {@link #onBlockChanged(BlockPos)}).
+     */
+    private boolean isInsideWall() {
+        Box box = this.player.getBoundingBox();
+        int minX = MathHelper.floor(box.minX);
+        int minY = MathHelper.floor(box.minY);
+        int minZ = MathHelper.floor(box.minZ);
+        int maxX = MathHelper.floor(box.maxX);
+        int maxY = MathHelper.floor(box.maxY);
+        int maxZ = MathHelper.floor(box.maxZ);
+
+        if (this.insideWallStale
+            || minX != this.probedMinX || minY != this.probedMinY || minZ != this.probedMinZ
+            || maxX != this.probedMaxX || maxY != this.probedMaxY || maxZ != this.probedMaxZ) {
+            this.setNoClipping(false);    // disable to check whether there really are blocks
+            this.insideWall = !this.player.world.isSpaceEmpty(this.player);
+            this.setNoClipping(true);
+            this.probedMinX = minX;
+            this.probedMinY = minY;
+            this.probedMinZ = minZ;
+            this.probedMaxX = maxX;
+            this.probedMaxY = maxY;
+            this.probedMaxZ = maxZ;
+            this.insideWallStale = false;
+        }
+        return this.insideWall;
+    }
+
+    /**
+     * Called on the server when a block changes near a player that is currently no-clipping.
+     *
+     * <p>Invalidates the cached inside-wall state if the block is in or right next to the probed area,
+     * as some collision shapes extend past their own block.
+     */
+    public void onBlockChanged(BlockPos pos) {
+        if (!this.insideWallStale
+            && pos.getX() >= this.probedMinX - 1 && pos.getX() <= this.probedMaxX + 1
+            && pos.getY() >= this.probedMinY - 1 && pos.getY() <= this.probedMaxY + 1
+            && pos.getZ() >= this.probedMinZ - 1 && pos.getZ() <= this.probedMaxZ + 1) {
+            this.insideWallStale = true;
+        }
+    }
+
+    /**
+     * Records whether the player is trying to move forward, as reported by the client.
+     *
+     * <p>This is only an intent, wall contact is checked by the server itself in {@link #serverTick()}.
+     */
+    @Override
+    public void hugWall(boolean hugging) {
+        this.pushingForward = hugging;
+    }
+
+    private void stopPhasing() {
+        this.ticksAgainstWall = 0;
+        this.setNoClipping(false);
+        KEY.sync(this.player, (buf, player) -> writeToPacket(buf, SYNC_NO_CLIP), player -> shouldSyncWith(player, SYNC_NO_CLIP));
     }
 
     @Override
@@ -256,19 +384,21 @@ public class PlayerMovementAlterer implements MovementAlterer {
         return this.noClipping;
     }
 
+    private void setNoClipping(boolean noClipping) {
+        if (noClipping != this.noClipping) {
+            this.insideWallStale = true;
+        }
+        this.noClipping = noClipping;
+        ((PhasingEntity) this.player).requiem_setNoClipping(noClipping);
+    }
+
     @Override
     public boolean shouldSyncWith(ServerPlayerEntity player) {
         return this.shouldSyncWith(player, 0);
     }
 
     private boolean shouldSyncWith(ServerPlayerEntity player, int syncOp) {
-        return (
-            syncOp == SYNC_NO_CLIP && player == this.player
-        ) || (
-            syncOp == SYNC_PHASING_PARTICLES
-                && RemnantComponent.get(player).getRemnantType().isDemon()
-                && player.squaredDistanceTo(this.player) < 16 * 16
-        );
+        return syncOp == SYNC_NO_CLIP && player == this.player;
     }
 
     @Override
@@ -287,14 +417,11 @@ public class PlayerMovementAlterer implements MovementAlterer {
     public void applySyncPacket(PacketByteBuf buf) {
         byte syncOp = buf.readByte();
         if (syncOp == SYNC_NO_CLIP) {
-            this.noClipping = buf.readBoolean();
-            this.ticksAgainstWall = this.noClipping ? -5 : 0;
-        } else if (syncOp == SYNC_PHASING_PARTICLES) {
-            this.playPhaseEffects();
+            this.setNoClipping(buf.readBoolean());
         }
     }
 
-    private void playPhaseEffects() {
+    public void playPhaseEffects() {
         for (int i = 0; i < 10; i++) {
             Vec3d intendedMovement = getIntendedMovement(this.player);
             this.player.world.addParticle(
@@ -311,60 +438,11 @@ public class PlayerMovementAlterer implements MovementAlterer {
         this.player.playSound(RequiemSoundEvents.EFFECT_PHASE, 3f, 0.6F + this.player.getRandom().nextFloat() * 0.4F);
     }
 
-    private Vec3d applyGravity(Vec3d velocity, float addedGravity) {
-        return velocity.subtract(0, addedGravity, 0);
-    }
-
-    private Vec3d applyFallSpeedModifier(Vec3d velocity, float fallSpeedModifier) {
-        if (!this.player.isOnGround() && velocity.y < 0) {
-            velocity = velocity.multiply(1.0, fallSpeedModifier, 1.0);
-        }
-        return velocity;
-    }
-
     private static LivingEntity getPlayerOrPossessed(PlayerEntity player) {
         LivingEntity possessed = PossessionComponent.get(player).getPossessedEntity();
         return possessed == null ? player : possessed;
     }
 
-    @SuppressWarnings("deprecation")    // backwards compatibility
-    private static boolean shouldActuallySinkInWater(MovementConfig config, Entity entity) {
-        if (config.shouldSinkInWater() == TriState.DEFAULT) {
-            EntityType<?> type = entity.getType();
-            return RequiemEntityTypeTags.GOLEMS.contains(type) || entity instanceof LivingEntity && ((LivingEntity) entity).isUndead();
-        }
-        return config.shouldSinkInWater().get();
-    }
-
-    private static SwimMode getActualSwimMode(MovementConfig config, Entity entity) {
-        if (config.getSwimMode() == SwimMode.UNSPECIFIED) {
-            if (shouldActuallySinkInWater(config, entity)) {
-                return SwimMode.SINKING;
-            } else if (entity instanceof WaterCreatureEntity) {
-                return SwimMode.FORCED;
-            } else if (entity instanceof SlimeEntity) {
-                return SwimMode.FLOATING;
-            }
-            return SwimMode.DISABLED;
-        }
-        return config.getSwimMode();
-    }
-
-    private static MovementConfig.MovementMode getActualFlightMode(@Nullable MovementConfig config, Entity entity) {
-        if (config == null) {
-            return DISABLED;
-        }
-        if (config.getFlightMode() == UNSPECIFIED) {
-            return (entity instanceof FlyingEntity || entity instanceof Flutterer) ? FORCED : DISABLED;
-        }
-        return config.getFlightMode();
-    }
-
-    private Vec3d applyInertia(Vec3d velocity, float inertia) {
-        // velocity = velocity * (1 - inertia) + lastVelocity * inertia
-        return velocity.multiply(1 - inertia).add(this.lastVelocity.multiply(inertia));
-    }
-
     @Override
     public void readFromNbt(CompoundTag tag) {
         // NO-OP
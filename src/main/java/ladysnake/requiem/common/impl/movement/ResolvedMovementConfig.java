@@ -0,0 +1,173 @@
+/*
+ * Requiem
+ * Copyright (C) 2017-2021 Ladysnake
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses>.
+ *
+ * Linking this mod statically or dynamically with other
+ * modules is making a combined work based on this mod.
+ * Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *
+ * In addition, as a special exception, the copyright holders of
+ * this mod give you permission to combine this mod
+ * with free software programs or libraries that are released under the GNU LGPL
+ * and with code included in the standard release of Minecraft under All Rights Reserved (or
+ * modified versions of such code, with unchanged license).
+ * You may copy and distribute such a system following the terms of the GNU GPL for this mod
+ * and the licenses of the other code concerned.
+ *
+ * Note that people who make modified versions of this mod are not obligated to grant
+ * this special exception for their modified versions; it is their choice whether to do so.
+ * The GNU General Public License gives permission to release a modified version without this exception;
+ * this exception also makes it possible to release a modified version which carries forward this exception.
+ */
+package ladysnake.requiem.common.impl.movement;
+
+import ladysnake.requiem.api.v1.entity.EntityTrait;
+import ladysnake.requiem.api.v1.entity.MovementConfig;
+import ladysnake.requiem.api.v1.entity.movement.SwimMode;
+import ladysnake.requiem.api.v1.entity.movement.WalkMode;
+import net.fabricmc.fabric.api.util.TriState;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.Flutterer;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.mob.FlyingEntity;
+import net.minecraft.entity.mob.SlimeEntity;
+import net.minecraft.entity.mob.WaterCreatureEntity;
+
+/**
+ * An immutable {@link MovementConfig} in which every heuristic has been resolved for a specific body.
+ *
+ * <p>The flight and swim modes of a resolved config are never {@link MovementMode#UNSPECIFIED}/{@link SwimMode#UNSPECIFIED},
+ * and its {@link #shouldSinkInWater()} is never {@link TriState#DEFAULT}.
+ */
+public final class ResolvedMovementConfig implements MovementConfig {
+    private final MovementMode flightMode;
+    private final SwimMode swimMode;
+    private final WalkMode walkMode;
+    private final boolean flopsOnLand;
+    private final boolean climbsWalls;
+    private final boolean phasesThroughWalls;
+    private final float gravity;
+    private final float fallSpeedModifier;
+    private final float inertia;
+    private final boolean altersVelocity;
+
+    private ResolvedMovementConfig(MovementConfig config, MovementMode flightMode, SwimMode swimMode) {
+        this.flightMode = flightMode;
+        this.swimMode = swimMode;
+        this.walkMode = config.getWalkMode();
+        this.flopsOnLand = config.shouldFlopOnLand();
+        this.climbsWalls = config.canClimbWalls();
+        this.phasesThroughWalls = config.canPhaseThroughWalls();
+        this.gravity = config.getAddedGravity();
+        this.fallSpeedModifier = config.getFallSpeedModifier();
+        this.inertia = config.getInertia();
+        this.altersVelocity = this.gravity != 0 || this.fallSpeedModifier != 1 || this.inertia != 0;
+    }
+
+    public static ResolvedMovementConfig resolve(MovementConfig config, Entity body) {
+        if (config instanceof ResolvedMovementConfig) {
+            return (ResolvedMovementConfig) config;
+        }
+        return new ResolvedMovementConfig(config, resolveFlightMode(config, body), resolveSwimMode(config, body));
+    }
+
+    private static MovementMode resolveFlightMode(MovementConfig config, Entity body) {
+        if (config.getFlightMode() == MovementMode.UNSPECIFIED) {
+            return (body instanceof FlyingEntity || body instanceof Flutterer) ? MovementMode.FORCED : MovementMode.DISABLED;
+        }
+        return config.getFlightMode();
+    }
+
+    private static SwimMode resolveSwimMode(MovementConfig config, Entity body) {
+        if (config.getSwimMode() == SwimMode.UNSPECIFIED) {
+            if (shouldActuallySinkInWater(config, body)) {
+                return SwimMode.SINKING;
+            } else if (body instanceof WaterCreatureEntity) {
+                return SwimMode.FORCED;
+            } else if (body instanceof SlimeEntity) {
+                return SwimMode.FLOATING;
+            }
+            return SwimMode.DISABLED;
+        }
+        return config.getSwimMode();
+    }
+
+    @SuppressWarnings("deprecation")    // backwards compatibility
+    private static boolean shouldActuallySinkInWater(MovementConfig config, Entity body) {
+        if (config.shouldSinkInWater() == TriState.DEFAULT) {
+            return EntityTrait.GOLEM.isIn(body.getType()) || body instanceof LivingEntity && ((LivingEntity) body).isUndead();
+        }
+        return config.shouldSinkInWater().get();
+    }
+
+    /**
+     * @return {@code false} if this config leaves the velocity of its user untouched
+     */
+    public boolean altersVelocity() {
+        return this.altersVelocity;
+    }
+
+    @Override
+    public MovementMode getFlightMode() {
+        return this.flightMode;
+    }
+
+    @Override
+    public float getAddedGravity() {
+        return this.gravity;
+    }
+
+    @Override
+    public float getFallSpeedModifier() {
+        return this.fallSpeedModifier;
+    }
+
+    @Override
+    public float getInertia() {
+        return this.inertia;
+    }
+
+    @Override
+    public SwimMode getSwimMode() {
+        return this.swimMode;
+    }
+
+    @Override
+    public WalkMode getWalkMode() {
+        return this.walkMode;
+    }
+
+    @Deprecated
+    @Override
+    public TriState shouldSinkInWater() {
+        return TriState.of(this.swimMode == SwimMode.SINKING);
+    }
+
+    @Override
+    public boolean shouldFlopOnLand() {
+        return this.flopsOnLand;
+    }
+
+    @Override
+    public boolean canClimbWalls() {
+        return this.climbsWalls;
+    }
+
+    @Override
+    public boolean canPhaseThroughWalls() {
+        return this.phasesThroughWalls;
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Requiem
+ * Copyright (C) 2017-2021 Ladysnake
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses>.
+ *
+ * Linking this mod statically or dynamically with other
+ * modules is making a combined work based on this mod.
+ * Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *
+ * In addition, as a special exception, the copyright holders of
+ * this mod give you permission to combine this mod
+ * with free software programs or libraries that are released under the GNU LGPL
+ * and with code included in the standard release of Minecraft under All Rights Reserved (or
+ * modified versions of such code, with unchanged license).
+ * You may copy and distribute such a system following the terms of the GNU GPL for this mod
+ * and the licenses of the other code concerned.
+ *
+ * Note that people who make modified versions of this mod are not obligated to grant
+ * this special exception for their modified versions; it is their choice whether to do so.
+ * The GNU General Public License gives permission to release a modified version without this exception;
+ * this exception also makes it possible to release a modified version which carries forward this exception.
+ */
+package ladysnake.requiem.common.impl.possession;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import ladysnake.requiem.api.v1.possession.PossessedEntityRegistry;
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Indexes the possessed entities of a world, both by possessor and by chunk.
+ *
+ * <p>Hosts are added and removed by {@link PossessionComponentImpl} when a possession starts or stops,
+ * and removed when they get unloaded from their world. Possessed entities report their chunk changes
+ * from their own tick.
+ */
+public final class PossessedEntityRegistryImpl implements PossessedEntityRegistry {
+    private final Map<UUID, MobEntity> byPossessor = new HashMap<>();
+    private final Map<MobEntity, Entry> entries = new IdentityHashMap<>();
+    private final Long2ObjectMap<List<MobEntity>> byChunk = new Long2ObjectOpenHashMap<>();
+    private final Collection<MobEntity> possessedEntitiesView = Collections.unmodifiableCollection(this.byPossessor.values());
+
+    public static PossessedEntityRegistryImpl get(ServerWorld world) {
+        return ((PossessedEntityRegistryHolder) world).requiem_getPossessedEntityRegistry();
+    }
+
+    @Nullable
+    @Override
+    public MobEntity getPossessedEntity(UUID possessorUuid) {
+        return this.byPossessor.get(possessorUuid);
+    }
+
+    @Override
+    public Collection<MobEntity> getPossessedEntities() {
+        return this.possessedEntitiesView;
+    }
+
+    @Override
+    public Collection<MobEntity> getPossessedEntities(ChunkPos chunkPos) {
+        List<MobEntity> hosts = this.byChunk.get(chunkPos.toLong());
+        return hosts == null ? Collections.emptyList() : Collections.unmodifiableList(hosts);
+    }
+
+    public void add(UUID possessorUuid, MobEntity host) {
+        MobEntity previous = this.byPossessor.put(possessorUuid, host);
+        if (previous != null && previous != host) {
+            this.removeEntry(previous);
+        }
+        Entry entry = this.entries.get(host);
+        if (entry != null) {
+            // the same host cannot be indexed under two possessors
+            if (!entry.possessorUuid.equals(possessorUuid)) {
+                this.byPossessor.remove(entry.possessorUuid, host);
+                entry.possessorUuid = possessorUuid;
+            }
+        } else {
+            long chunk = getChunk(host);
+            this.entries.put(host, new Entry(possessorUuid, chunk));
+            this.addToChunk(host, chunk);
+        }
+    }
+
+    public void remove(MobEntity host) {
+        Entry entry = this.removeEntry(host);
+        if (entry != null) {
+            this.byPossessor.remove(entry.possessorUuid, host);
+        }
+    }
+
+    /**
+     * Moves a possessed entity to the bucket of the chunk it currently stands in.
+     */
+    public void updateChunk(MobEntity host) {
+        Entry entry = this.entries.get(host);
+        if (entry != null) {
+            long chunk = getChunk(host);
+            if (chunk != entry.chunk) {
+                this.removeFromChunk(host, entry.chunk);
+                entry.chunk = chunk;
+                this.addToChunk(host, chunk);
+            }
+        }
+    }
+
+    @Nullable
+    private Entry removeEntry(MobEntity host) {
+        Entry entry = this.entries.remove(host);
+        if (entry != null) {
+            this.removeFromChunk(host, entry.chunk);
+        }
+        return entry;
+    }
+
+    private void addToChunk(MobEntity host, long chunk) {
+        List<MobEntity> hosts = this.byChunk.get(chunk);
+        if (hosts == null) {
+            hosts = new ArrayList<>(1);
+            this.byChunk.put(chunk, hosts);
+        }
+        hosts.add(host);
+    }
+
+    private void removeFromChunk(MobEntity host, long chunk) {
+        List<MobEntity> hosts = this.byChunk.get(chunk);
+        if (hosts != null) {
+            hosts.remove(host);
+            if (hosts.isEmpty()) {
+                this.byChunk.remove(chunk);
+            }
+        }
+    }
+
+    private static long getChunk(MobEntity host) {
+        // position-based, as the entity's chunk fields only get updated after its tick
+        return ChunkPos.toLong(MathHelper.floor(host.getX()) >> 4, MathHelper.floor(host.getZ()) >> 4);
+    }
+
+    private static final class Entry {
+        private UUID possessorUuid;
+        private long chunk;
+
+        Entry(UUID possessorUuid, long chunk) {
+            this.possessorUuid = possessorUuid;
+            this.chunk = chunk;
+        }
+    }
+}
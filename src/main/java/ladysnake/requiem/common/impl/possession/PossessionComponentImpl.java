@@ -34,7 +34,10 @@
  */
 package ladysnake.requiem.common.impl.possession;
 
+import it.unimi.dsi.fastutil.objects.Reference2BooleanMap;
+import it.unimi.dsi.fastutil.objects.Reference2BooleanOpenHashMap;
 import ladysnake.requiem.Requiem;
+import ladysnake.requiem.api.v1.entity.EntityTrait;
 import ladysnake.requiem.api.v1.entity.MovementAlterer;
 import ladysnake.requiem.api.v1.entity.MovementRegistry;
 import ladysnake.requiem.api.v1.event.requiem.PossessionStartCallback;
@@ -45,9 +48,9 @@ import ladysnake.requiem.api.v1.remnant.AttritionFocus;
 import ladysnake.requiem.api.v1.remnant.RemnantComponent;
 import ladysnake.requiem.api.v1.remnant.SoulbindingRegistry;
 import ladysnake.requiem.client.RequiemClient;
+import ladysnake.requiem.common.entity.internal.PossessingEntity;
 import ladysnake.requiem.common.impl.movement.SerializableMovementConfig;
 import ladysnake.requiem.common.network.RequiemNetworking;
-import ladysnake.requiem.common.tag.RequiemEntityTypeTags;
 import ladysnake.requiem.common.tag.RequiemItemTags;
 import ladysnake.requiem.common.util.InventoryHelper;
 import ladysnake.requiem.mixin.common.access.EntityAccessor;
@@ -55,6 +58,7 @@ import ladysnake.requiem.mixin.common.access.LivingEntityAccessor;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityPose;
 import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.effect.StatusEffect;
 import net.minecraft.entity.effect.StatusEffectInstance;
 import net.minecraft.entity.effect.StatusEffects;
 import net.minecraft.entity.mob.MobEntity;
@@ -77,6 +81,12 @@ public final class PossessionComponentImpl implements PossessionComponent {
     private final PlayerEntity player;
     @Nullable private MobEntity possessed;
     private int conversionTimer;
+    /**
+     * Status effects that changed on either side of the possession since the last flush.
+     * The value is {@code true} if the player holds the up-to-date state, {@code false} if the host does.
+     */
+    private final Reference2BooleanMap<StatusEffect> dirtyStatusEffects = new Reference2BooleanOpenHashMap<>(4);
+    private boolean mirroringStatusEffects;
 
     public PossessionComponentImpl(PlayerEntity player) {
         this.player = player;
@@ -96,7 +106,7 @@ public final class PossessionComponentImpl implements PossessionComponent {
             return false;
         }
 
-        PossessionStartCallback.Result result = PossessionStartCallback.EVENT.invoker().onPossessionAttempted(host, this.player, simulate);
+        PossessionStartCallback.Result result = PossessionStartCallback.EVENT.invoker(host.getType()).onPossessionAttempted(host, this.player, simulate);
         if (result != PossessionStartCallback.Result.ALLOW) {
             return result.isSuccess();
         }
@@ -116,7 +126,9 @@ public final class PossessionComponentImpl implements PossessionComponent {
         possessable.setPossessor(null);
         // Transfer inventory and mount
         if (!player.world.isClient) {
-            if (RequiemEntityTypeTags.ITEM_USERS.contains(host.getType())) {
+            // apply whatever is left over from a previous host before switching
+            this.flushStatusEffects();
+            if (EntityTrait.ITEM_USER.isIn(host.getType())) {
                 InventoryHelper.transferEquipment(host, player);
             }
             for (StatusEffectInstance effect : player.getStatusEffects()) {
@@ -124,9 +136,6 @@ public final class PossessionComponentImpl implements PossessionComponent {
                     host.addStatusEffect(new StatusEffectInstance(effect));
                 }
             }
-            for (StatusEffectInstance effect : host.getStatusEffects()) {
-                player.addStatusEffect(new StatusEffectInstance(effect));
-            }
             Entity ridden = ((Entity) possessable).getVehicle();
             if (ridden != null) {
                 ((MobEntity) possessable).stopRiding();
@@ -135,9 +144,13 @@ public final class PossessionComponentImpl implements PossessionComponent {
             host.setTarget(null);
         }
         // Actually set the possessed entity
-        this.possessed = host;
+        this.setPossessed(host);
         possessable.setPossessor(this.player);
         PossessionComponent.KEY.sync(this.player);
+        // The host's effects reach the player with the next flush, along with anything else that happened this tick
+        for (StatusEffectInstance effect : host.getStatusEffects()) {
+            this.markStatusEffectDirty(effect.getEffectType(), false);
+        }
         // Update some attributes
         this.player.copyPositionAndRotation(host);
         this.player.calculateDimensions(); // update size
@@ -169,8 +182,14 @@ public final class PossessionComponentImpl implements PossessionComponent {
      */
     @Override
     public void stopPossessing(boolean transfer) {
-        LivingEntity possessed = this.getPossessedEntity();
+        if (this.possessed != null && this.possessed.removed) {
+            // The host is gone, only forget it instead of waiting for the next tick to recover it
+            this.resetState();
+            return;
+        }
+        LivingEntity possessed = this.possessed;
         if (possessed != null) {
+            this.flushStatusEffects();
             this.resetState();
             ((Possessable)possessed).setPossessor(null);
             if (player instanceof ServerPlayerEntity) {
@@ -191,7 +210,7 @@ public final class PossessionComponentImpl implements PossessionComponent {
     }
 
     public static void dropEquipment(LivingEntity possessed, PlayerEntity player) {
-        if (RequiemEntityTypeTags.ITEM_USERS.contains(possessed.getType())) {
+        if (EntityTrait.ITEM_USER.isIn(possessed.getType())) {
             InventoryHelper.transferEquipment(player, possessed);
         }
         ((LivingEntityAccessor) player).requiem$invokeDropInventory();
@@ -231,12 +250,21 @@ public final class PossessionComponentImpl implements PossessionComponent {
     @CheckForNull
     @Override
     public MobEntity getPossessedEntity() {
-        if (!isPossessing()) {
-            return null;
-        }
+        MobEntity possessed = this.possessed;
+        // Recovery is deferred to the next tick, see recoverPossessedEntity
+        return possessed == null || possessed.removed ? null : possessed;
+    }
 
-        if (this.possessed.removed) {
-            UUID possessedUuid = this.possessed.getUuid();
+    /**
+     * Handles the disappearance of the possessed entity, attempting to find an equivalent entity using its UUID.
+     *
+     * <p>Called once per tick by the player when the possessed entity has been removed.
+     */
+    public void recoverPossessedEntity() {
+        MobEntity possessed = this.possessed;
+
+        if (possessed != null && possessed.removed) {
+            UUID possessedUuid = possessed.getUuid();
             Requiem.LOGGER.debug("{}: this player's possessed entity has disappeared", this.player);
             this.resetState();
             // Attempt to find an equivalent entity using the UUID
@@ -247,12 +275,25 @@ public final class PossessionComponentImpl implements PossessionComponent {
                 }
             }
         }
-        return this.possessed;
+    }
+
+    private void setPossessed(@Nullable MobEntity possessed) {
+        MobEntity previous = this.possessed;
+        this.possessed = possessed;
+        ((PossessingEntity) this.player).requiem_setPossessedEntity(possessed);
+
+        if (previous != null && previous.world instanceof ServerWorld) {
+            PossessedEntityRegistryImpl.get((ServerWorld) previous.world).remove(previous);
+        }
+        if (possessed != null && possessed.world instanceof ServerWorld) {
+            PossessedEntityRegistryImpl.get((ServerWorld) possessed.world).add(this.player.getUuid(), possessed);
+        }
     }
 
     private void resetState() {
-        this.possessed = null;
+        this.setPossessed(null);
         this.conversionTimer = 0;
+        this.dirtyStatusEffects.clear();
         MovementAlterer.get(this.player).setConfig(RemnantComponent.get(this.player).isVagrant() ? SerializableMovementConfig.SOUL : null);
         this.player.calculateDimensions(); // update size
         this.player.setAir(this.player.getMaxAir());
@@ -261,6 +302,57 @@ public final class PossessionComponentImpl implements PossessionComponent {
         RequiemNetworking.sendToAllTrackingIncluding(player, new EntityAttributesS2CPacket(player.getEntityId(), player.getAttributes().getAttributesToSend()));
     }
 
+    /**
+     * Records a status effect change on the player or on its host, to be mirrored on the other side
+     * the next time {@link #flushStatusEffects()} runs.
+     *
+     * <p>Changes made while mirroring are ignored, so that the two sides do not echo each other.
+     *
+     * @param type       the type of the status effect that got added, upgraded or removed
+     * @param fromPlayer {@code true} if the change happened on the player, {@code false} if it happened on the host
+     */
+    public void markStatusEffectDirty(StatusEffect type, boolean fromPlayer) {
+        if (!this.mirroringStatusEffects && this.possessed != null && !this.player.world.isClient) {
+            this.dirtyStatusEffects.put(type, fromPlayer);
+        }
+    }
+
+    /**
+     * Mirrors every status effect change recorded since the last call, at most once per effect type.
+     *
+     * <p>Called at the end of the host's tick.
+     */
+    public void flushStatusEffects() {
+        if (this.dirtyStatusEffects.isEmpty()) {
+            return;
+        }
+
+        MobEntity host = this.possessed;
+
+        if (host != null) {
+            this.mirroringStatusEffects = true;
+            try {
+                for (Reference2BooleanMap.Entry<StatusEffect> entry : this.dirtyStatusEffects.reference2BooleanEntrySet()) {
+                    StatusEffect type = entry.getKey();
+                    LivingEntity source = entry.getBooleanValue() ? this.player : host;
+                    LivingEntity target = entry.getBooleanValue() ? host : this.player;
+                    // only the latest state matters, however many times it changed in between
+                    StatusEffectInstance current = source.getStatusEffect(type);
+
+                    if (current != null) {
+                        target.addStatusEffect(new StatusEffectInstance(current));
+                    } else {
+                        target.removeStatusEffect(type);
+                    }
+                }
+            } finally {
+                this.mirroringStatusEffects = false;
+            }
+        }
+
+        this.dirtyStatusEffects.clear();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -40,6 +40,7 @@ import io.github.ladysnake.pal.Pal;
 import io.github.ladysnake.pal.VanillaAbilities;
 import ladysnake.requiem.Requiem;
 import ladysnake.requiem.api.v1.entity.CurableEntityComponent;
+import ladysnake.requiem.api.v1.entity.EntityTrait;
 import ladysnake.requiem.api.v1.entity.MovementAlterer;
 import ladysnake.requiem.api.v1.possession.PossessionComponent;
 import ladysnake.requiem.api.v1.remnant.RemnantComponent;
@@ -51,7 +52,6 @@ import ladysnake.requiem.common.entity.effect.AttritionStatusEffect;
 import ladysnake.requiem.common.entity.effect.RequiemStatusEffects;
 import ladysnake.requiem.common.impl.movement.SerializableMovementConfig;
 import ladysnake.requiem.common.network.RequiemNetworking;
-import ladysnake.requiem.common.tag.RequiemEntityTypeTags;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.effect.StatusEffect;
 import net.minecraft.entity.effect.StatusEffectInstance;
@@ -118,7 +118,7 @@ public class MutableRemnantState implements RemnantState {
 
     @Override
     public boolean canDissociateFrom(MobEntity possessed) {
-        return RequiemEntityTypeTags.FRICTIONLESS_HOSTS.contains(possessed.getType());
+        return EntityTrait.FRICTIONLESS_HOST.isIn(possessed.getType());
     }
 
     @Override
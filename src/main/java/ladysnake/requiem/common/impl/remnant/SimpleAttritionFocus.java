@@ -45,19 +45,38 @@ import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 
 import javax.annotation.Nonnegative;
+import javax.annotation.Nullable;
 import java.util.UUID;
 
 public class SimpleAttritionFocus implements AttritionFocus {
-    protected final Object2IntOpenHashMap<UUID> attritionLevels = new Object2IntOpenHashMap<>();
+    /**
+     * Attrition levels by player UUID, allocated on first use.
+     *
+     * <p>Every mob gets an attrition focus, but only a handful ever carry any attrition,
+     * so the map stays {@code null} until there is something to put in it.
+     */
+    private @Nullable Object2IntOpenHashMap<UUID> attritionLevels;
+
+    private Object2IntOpenHashMap<UUID> getOrCreateLevels() {
+        Object2IntOpenHashMap<UUID> levels = this.attritionLevels;
+        if (levels == null) {
+            levels = this.attritionLevels = new Object2IntOpenHashMap<>(2);
+        }
+        return levels;
+    }
 
     @Override
     public void addAttrition(UUID playerUuid, @Nonnegative int level) {
-        this.attritionLevels.mergeInt(playerUuid, level, Integer::sum);
+        this.getOrCreateLevels().mergeInt(playerUuid, level, Integer::sum);
     }
 
     @Override
     public void applyAttrition(PlayerEntity player) {
+        if (this.attritionLevels == null) return;
+
         int attrition = this.attritionLevels.removeInt(player.getUuid());
+        this.trimLevels();
+
         if (attrition > 0) {
             AttritionStatusEffect.apply(player, attrition);
         }
@@ -65,36 +84,45 @@ public class SimpleAttritionFocus implements AttritionFocus {
 
     @Override
     public void transferAttrition(AttritionFocus other) {
+        if (this.attritionLevels == null) return;
+
         for (ObjectIterator<Object2IntMap.Entry<UUID>> iterator = this.attritionLevels.object2IntEntrySet().fastIterator(); iterator.hasNext(); ) {
             Object2IntMap.Entry<UUID> entry = iterator.next();
             other.addAttrition(entry.getKey(), entry.getIntValue());
             iterator.remove();
         }
+        this.trimLevels();
     }
 
     @Override
     public boolean hasAttrition() {
-        return !this.attritionLevels.isEmpty();
+        return this.attritionLevels != null && !this.attritionLevels.isEmpty();
+    }
+
+    private void trimLevels() {
+        if (this.attritionLevels != null && this.attritionLevels.isEmpty()) {
+            this.attritionLevels = null;
+        }
     }
 
     @Override
     public void readFromNbt(CompoundTag tag) {
         if (tag.contains("attrition_levels")) {
             ListTag levels = tag.getList("attrition_levels", NbtType.COMPOUND);
-            this.attritionLevels.clear();
+            this.attritionLevels = null;
             for (int i = 0; i < levels.size(); i++) {
                 CompoundTag playerLevel = levels.getCompound(i);
                 int level = playerLevel.getInt("level");
-                this.attritionLevels.put(playerLevel.getUuid("player_uuid"), level);
+                this.getOrCreateLevels().put(playerLevel.getUuid("player_uuid"), level);
             }
         }
     }
 
     @Override
     public void writeToNbt(CompoundTag tag) {
-        if (!this.attritionLevels.isEmpty()) {
+        if (this.hasAttrition()) {
             ListTag levels = new ListTag();
-            for (Object2IntMap.Entry<UUID> entry : attritionLevels.object2IntEntrySet()) {
+            for (Object2IntMap.Entry<UUID> entry : this.attritionLevels.object2IntEntrySet()) {
                 CompoundTag level = new CompoundTag();
                 level.putUuid("player_uuid", entry.getKey());
                 level.putInt("level", entry.getIntValue());
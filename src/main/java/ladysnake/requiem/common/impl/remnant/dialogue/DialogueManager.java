@@ -40,10 +40,10 @@ import ladysnake.requiem.Requiem;
 import ladysnake.requiem.api.v1.dialogue.CutsceneDialogue;
 import ladysnake.requiem.api.v1.dialogue.DialogueAction;
 import ladysnake.requiem.api.v1.dialogue.DialogueRegistry;
-import ladysnake.requiem.api.v1.util.SubDataManager;
+import ladysnake.requiem.common.impl.data.MapSubDataManager;
+import ladysnake.requiem.common.impl.data.ParallelResourceParser;
 import ladysnake.requiem.common.util.IdentifierAdapter;
 import net.minecraft.network.PacketByteBuf;
-import net.minecraft.resource.Resource;
 import net.minecraft.resource.ResourceManager;
 import net.minecraft.text.Style;
 import net.minecraft.text.Text;
@@ -51,15 +51,14 @@ import net.minecraft.util.Identifier;
 import net.minecraft.util.LowercaseEnumTypeAdapterFactory;
 import net.minecraft.util.profiler.Profiler;
 
-import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 
-public final class DialogueManager implements SubDataManager<Map<Identifier, DialogueStateMachine>>, DialogueRegistry {
+public final class DialogueManager implements MapSubDataManager<Identifier, DialogueStateMachine>, DialogueRegistry {
     private static final Gson GSON = new GsonBuilder()
         .setPrettyPrinting()
         .disableHtmlEscaping()
@@ -71,40 +70,47 @@ public final class DialogueManager implements SubDataManager<Map<Identifier, Dia
     public static final int PREFIX_LENGTH = "requiem_dialogues/".length();
     public static final int SUFFIX_LENGTH = ".json".length();
 
-    private final Map<Identifier, DialogueStateMachine> dialogues = new HashMap<>();
+    private volatile Map<Identifier, DialogueStateMachine> dialogues = Collections.emptyMap();
     private final Map<Identifier, DialogueAction> actions = new HashMap<>();
 
     @Override
-    public synchronized void apply(Map<Identifier, DialogueStateMachine> dialogues) {
-        this.dialogues.clear();
-        this.dialogues.putAll(dialogues);
+    public void apply(Map<Identifier, DialogueStateMachine> dialogues) {
+        this.dialogues = Collections.unmodifiableMap(new HashMap<>(dialogues));
         Requiem.LOGGER.info("[Requiem] Added dialogues {}", dialogues.keySet());
     }
 
     @Override
-    public Map<Identifier, DialogueStateMachine> loadFromPacket(PacketByteBuf buf) {
-        Map<Identifier, DialogueStateMachine> dialogues = new HashMap<>();
-        int nbDialogues = buf.readVarInt();
-        for (int i = 0; i < nbDialogues; i++) {
-            dialogues.put(Identifier.tryParse(buf.readString()), new DialogueStateMachine().readFromPacket(buf));
-        }
-        return dialogues;
+    public Map<Identifier, DialogueStateMachine> getEntries() {
+        return this.dialogues;
     }
 
-    public synchronized void toPacket(PacketByteBuf buf) {
-        buf.writeVarInt(this.dialogues.size());
-        for (Map.Entry<Identifier, DialogueStateMachine> entry : this.dialogues.entrySet()) {
-            buf.writeString(entry.getKey().toString());
-            entry.getValue().writeToPacket(buf);
-        }
+    @Override
+    public void writeKey(PacketByteBuf buf, Identifier key) {
+        buf.writeString(key.toString());
+    }
+
+    @Override
+    public Identifier readKey(PacketByteBuf buf) {
+        return Identifier.tryParse(buf.readString());
+    }
+
+    @Override
+    public void writeValue(PacketByteBuf buf, DialogueStateMachine value) {
+        value.writeToPacket(buf);
+    }
+
+    @Override
+    public DialogueStateMachine readValue(PacketByteBuf buf) {
+        return new DialogueStateMachine().readFromPacket(buf);
     }
 
     @Override
-    public synchronized CutsceneDialogue getDialogue(Identifier id) {
-        if (!this.dialogues.containsKey(id)) {
+    public CutsceneDialogue getDialogue(Identifier id) {
+        DialogueStateMachine dialogue = this.dialogues.get(id);
+        if (dialogue == null) {
             throw new IllegalArgumentException("Unknown dialogue " + id);
         }
-        return this.dialogues.get(id);
+        return dialogue;
     }
 
     @Override
@@ -128,20 +134,24 @@ public final class DialogueManager implements SubDataManager<Map<Identifier, Dia
 
     @Override
     public CompletableFuture<Map<Identifier, DialogueStateMachine>> load(ResourceManager manager, Profiler profiler, Executor executor) {
-        return CompletableFuture.supplyAsync(() -> {
+        return CompletableFuture.supplyAsync(
+            () -> new ArrayList<>(manager.findResources("requiem_dialogues", (res) -> res.endsWith(".json"))),
+            executor
+        ).thenCompose(locations -> ParallelResourceParser.parseAll(
+            manager, locations, executor, "dialogue", in -> GSON.fromJson(in, DialogueStateMachine.class)
+        ).thenApply(parsed -> {
             Map<Identifier, DialogueStateMachine> dialogues = new HashMap<>();
-            for (Identifier dialogueLocation : manager.findResources("requiem_dialogues", (res) -> res.endsWith(".json"))) {
-                String path = dialogueLocation.getPath();
-                Identifier dialogueId = new Identifier(dialogueLocation.getNamespace(), path.substring(PREFIX_LENGTH, path.length() - SUFFIX_LENGTH));
-                try (Resource res = manager.getResource(dialogueLocation); Reader in = new InputStreamReader(res.getInputStream())) {
-                    dialogues.put(dialogueId, GSON.fromJson(in, DialogueStateMachine.class));
-                } catch (IOException e) {
-                    Requiem.LOGGER.error("Could not read dialogue {}", dialogueLocation);
+            for (int i = 0; i < locations.size(); i++) {
+                DialogueStateMachine dialogue = parsed.get(i);
+                if (dialogue != null) {
+                    Identifier dialogueLocation = locations.get(i);
+                    String path = dialogueLocation.getPath();
+                    dialogues.put(new Identifier(dialogueLocation.getNamespace(), path.substring(PREFIX_LENGTH, path.length() - SUFFIX_LENGTH)), dialogue);
                 }
             }
             Requiem.LOGGER.info("[Requiem] Parsed dialogues {}", dialogues.keySet());
             return dialogues;
-        }, executor);
+        }));
     }
 
     @Override
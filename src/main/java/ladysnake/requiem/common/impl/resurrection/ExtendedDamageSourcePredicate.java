@@ -35,6 +35,7 @@
 package ladysnake.requiem.common.impl.resurrection;
 
 import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 import net.minecraft.entity.damage.DamageSource;
 import net.minecraft.predicate.entity.DamageSourcePredicate;
 import net.minecraft.server.network.ServerPlayerEntity;
@@ -46,13 +47,57 @@ import javax.annotation.Nullable;
 import java.util.Objects;
 
 public final class ExtendedDamageSourcePredicate {
-    public static final ExtendedDamageSourcePredicate EMPTY = new ExtendedDamageSourcePredicate(DamageSourcePredicate.EMPTY, null);
+    public static final ExtendedDamageSourcePredicate EMPTY = new ExtendedDamageSourcePredicate(DamageSourcePredicate.EMPTY, null, 0, 0);
+
+    /**
+     * Boolean properties checked by {@link DamageSourcePredicate}, in the order of their bit in {@link #getFlags(DamageSource)}
+     */
+    private static final String[] FLAG_KEYS = {
+        "is_projectile", "is_explosion", "bypasses_armor", "bypasses_invulnerability",
+        "bypasses_magic", "is_fire", "is_magic", "is_lightning"
+    };
+
     private final DamageSourcePredicate base;
-    private final String damageName;
+    private final @Nullable String damageName;
+    /**Bits of {@link #getFlags(DamageSource)} that this predicate constrains*/
+    private final int flagMask;
+    /**Expected values for the bits in {@link #flagMask}*/
+    private final int flagValues;
 
-    private ExtendedDamageSourcePredicate(DamageSourcePredicate base, String damageName) {
+    private ExtendedDamageSourcePredicate(DamageSourcePredicate base, @Nullable String damageName, int flagMask, int flagValues) {
         this.base = base;
         this.damageName = damageName;
+        this.flagMask = flagMask;
+        this.flagValues = flagValues;
+    }
+
+    /**
+     * Packs the boolean properties of a damage source into a bit field,
+     * to be passed to {@link #canMatch(DamageSource, int)}.
+     */
+    public static int getFlags(DamageSource damage) {
+        int flags = 0;
+        if (damage.isProjectile()) flags |= 1;
+        if (damage.isExplosive()) flags |= 1 << 1;
+        if (damage.bypassesArmor()) flags |= 1 << 2;
+        if (damage.isOutOfWorld()) flags |= 1 << 3;
+        if (damage.isUnblockable()) flags |= 1 << 4;
+        if (damage.isFire()) flags |= 1 << 5;
+        if (damage.getMagic()) flags |= 1 << 6;
+        if (damage == DamageSource.LIGHTNING_BOLT) flags |= 1 << 7;
+        return flags;
+    }
+
+    /**
+     * Performs the cheap structural checks of this predicate.
+     *
+     * <p>If this method returns {@code false}, the full {@link #test(ServerPlayerEntity, DamageSource)} is guaranteed to fail.
+     *
+     * @param damage the damage source being tested
+     * @param flags  the result of {@link #getFlags(DamageSource)} for {@code damage}
+     */
+    public boolean canMatch(DamageSource damage, int flags) {
+        return (flags & this.flagMask) == this.flagValues && (damageName == null || damageName.equals(damage.name));
     }
 
     public boolean test(ServerPlayerEntity player, DamageSource damage) {
@@ -68,7 +113,18 @@ public final class ExtendedDamageSourcePredicate {
         if (base == DamageSourcePredicate.EMPTY) {
             return EMPTY;
         }
-        String damageName = JsonHelper.getString(Objects.requireNonNull(element).getAsJsonObject(), "name", null);
-        return new ExtendedDamageSourcePredicate(base, damageName);
+        JsonObject json = Objects.requireNonNull(element).getAsJsonObject();
+        String damageName = JsonHelper.getString(json, "name", null);
+        int flagMask = 0;
+        int flagValues = 0;
+        for (int i = 0; i < FLAG_KEYS.length; i++) {
+            if (json.has(FLAG_KEYS[i]) && !json.get(FLAG_KEYS[i]).isJsonNull()) {
+                flagMask |= 1 << i;
+                if (JsonHelper.getBoolean(json, FLAG_KEYS[i])) {
+                    flagValues |= 1 << i;
+                }
+            }
+        }
+        return new ExtendedDamageSourcePredicate(base, damageName, flagMask, flagValues);
     }
 }
@@ -57,8 +57,10 @@ import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.stat.Stats;
 import net.minecraft.tag.BlockTags;
 import net.minecraft.util.Hand;
+import net.minecraft.util.Identifier;
 import net.minecraft.util.JsonHelper;
 import net.minecraft.util.Util;
+import net.minecraft.util.registry.Registry;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 
@@ -86,24 +88,56 @@ public final class ResurrectionData implements Comparable<ResurrectionData> {
     private final @Nullable ItemPredicate consumable;
     private final List<BiPredicate<ServerPlayerEntity, DamageSource>> specials;
 
+    /**The exact possessed entity type required by {@link #possessedPredicate}, if any*/
+    private final @Nullable EntityType<?> possessedType;
     private final EntityType<?> entityType;
     private final @Nullable CompoundTag entityNbt;
 
-    private ResurrectionData(int priority, @Nullable EntityPredicate playerPredicate, @Nullable EntityPredicate possessedPredicate, @Nullable ExtendedDamageSourcePredicate damageSourcePredicate, @Nullable ItemPredicate consumable, List<BiPredicate<ServerPlayerEntity, DamageSource>> specials, EntityType<?> entityType, @Nullable CompoundTag entityNbt) {
+    private ResurrectionData(int priority, @Nullable EntityPredicate playerPredicate, @Nullable EntityPredicate possessedPredicate, @Nullable ExtendedDamageSourcePredicate damageSourcePredicate, @Nullable ItemPredicate consumable, List<BiPredicate<ServerPlayerEntity, DamageSource>> specials, @Nullable EntityType<?> possessedType, EntityType<?> entityType, @Nullable CompoundTag entityNbt) {
         this.priority = priority;
         this.playerPredicate = playerPredicate;
         this.possessedPredicate = possessedPredicate;
         this.damageSourcePredicate = damageSourcePredicate;
         this.specials = specials;
         this.consumable = consumable;
+        this.possessedType = possessedType;
         this.entityType = entityType;
         this.entityNbt = entityNbt;
     }
 
+    /**
+     * @return {@code true} if this rule can only apply to players possessing an entity
+     */
+    public boolean requiresPossessed() {
+        return this.possessedPredicate != null;
+    }
 
-    public boolean matches(ServerPlayerEntity player, @Nullable LivingEntity possessed, DamageSource killingBlow) {
-        if (killingBlow.isOutOfWorld()) return false;
+    /**
+     * @return the only entity type this rule can apply to while possessed, or {@code null} if it is not restricted to a single type
+     */
+    public @Nullable EntityType<?> getPossessedType() {
+        return this.possessedType;
+    }
 
+    /**
+     * Checks whether this rule applies to the given death.
+     *
+     * <p>This method has no side effect: if a consumable is required, it is looked up but not used.
+     * Callers should invoke {@link #tryUseConsumable(ServerPlayerEntity, LivingEntity)} once they have settled on this rule.
+     *
+     * @param damageFlags the result of {@link ExtendedDamageSourcePredicate#getFlags(DamageSource)} for {@code killingBlow}
+     */
+    public boolean matches(ServerPlayerEntity player, @Nullable LivingEntity possessed, DamageSource killingBlow, int damageFlags) {
+        // cheap structural checks first
+        if (possessedPredicate == null && possessed != null) {
+            return false;
+        }
+
+        if (damageSourcePredicate != null && !damageSourcePredicate.canMatch(killingBlow, damageFlags)) {
+            return false;
+        }
+
+        // then the full predicates
         if (damageSourcePredicate != null && !damageSourcePredicate.test(player, killingBlow)) {
             return false;
         }
@@ -112,7 +146,7 @@ public final class ResurrectionData implements Comparable<ResurrectionData> {
             return false;
         }
 
-        if (possessedPredicate == null && possessed != null || possessedPredicate != null && !possessedPredicate.test(player, possessed)) {
+        if (possessedPredicate != null && !possessedPredicate.test(player, possessed)) {
             return false;
         }
 
@@ -122,12 +156,13 @@ public final class ResurrectionData implements Comparable<ResurrectionData> {
             }
         }
 
-        return this.tryUseConsumable(player, possessed == null ? player : possessed);
+        return this.consumable == null || findConsumable(player, possessed == null ? player : possessed, this.consumable::test);
     }
 
-    private boolean tryUseConsumable(ServerPlayerEntity player, LivingEntity user) {
+    public boolean tryUseConsumable(ServerPlayerEntity player, LivingEntity user) {
         if (this.consumable == null) return true;
 
+        ItemPredicate consumable = this.consumable;
         Predicate<ItemStack> action = new Predicate<ItemStack>() {
             private boolean found;
 
@@ -135,7 +170,7 @@ public final class ResurrectionData implements Comparable<ResurrectionData> {
             public boolean test(ItemStack stack) {
                 if (this.found) throw new IllegalStateException("Consumable already found!");
 
-                if (ResurrectionData.this.consumable.test(stack)) {
+                if (consumable.test(stack)) {
                     ItemStack totem = stack.copy();
                     stack.decrement(1);
                     player.incrementStat(Stats.USED.getOrCreateStat(totem.getItem()));
@@ -150,6 +185,10 @@ public final class ResurrectionData implements Comparable<ResurrectionData> {
             }
         };
 
+        return findConsumable(player, user, action);
+    }
+
+    private static boolean findConsumable(ServerPlayerEntity player, LivingEntity user, Predicate<ItemStack> action) {
         for (Hand hand : Hand.values()) {
             if (action.test(user.getStackInHand(hand))) {
                 return true;
@@ -184,6 +223,7 @@ public final class ResurrectionData implements Comparable<ResurrectionData> {
         @Nullable ExtendedDamageSourcePredicate damagePredicate = ExtendedDamageSourcePredicate.deserialize(json.get("killing_blow"));
         @Nullable EntityPredicate playerPredicate = json.has("player") ? EntityPredicate.fromJson(json.get("player")) : null;
         @Nullable EntityPredicate possessedPredicate = json.has("possessed") ? EntityPredicate.fromJson(json.get("possessed")) : null;
+        @Nullable EntityType<?> possessedType = possessedPredicate != null ? getExactType(json.get("possessed")) : null;
         @Nullable ItemPredicate consumable = json.has("consumable") ? ItemPredicate.fromJson(json.get("consumable")) : null;
 
         if (damagePredicate == null && playerPredicate == null && possessedPredicate == null && consumable == null) {
@@ -213,7 +253,17 @@ public final class ResurrectionData implements Comparable<ResurrectionData> {
             nbt = null;
         }
 
-        return new ResurrectionData(priority, playerPredicate, possessedPredicate, damagePredicate, consumable, specials, type, nbt);
+        return new ResurrectionData(priority, playerPredicate, possessedPredicate, damagePredicate, consumable, specials, possessedType, type, nbt);
+    }
+
+    @Nullable
+    private static EntityType<?> getExactType(@Nullable JsonElement entityPredicate) {
+        if (entityPredicate == null || !entityPredicate.isJsonObject()) return null;
+        String typeId = JsonHelper.getString(entityPredicate.getAsJsonObject(), "type", null);
+        // tag predicates cannot be indexed, the tag contents may change on reload
+        if (typeId == null || typeId.startsWith("#")) return null;
+        Identifier id = Identifier.tryParse(typeId);
+        return id == null ? null : Registry.ENTITY_TYPE.getOrEmpty(id).orElse(null);
     }
 
     @Override
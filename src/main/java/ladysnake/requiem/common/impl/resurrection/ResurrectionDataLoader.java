@@ -37,9 +37,9 @@ package ladysnake.requiem.common.impl.resurrection;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonObject;
-import com.google.gson.JsonParseException;
 import com.google.gson.reflect.TypeToken;
 import ladysnake.requiem.Requiem;
+import ladysnake.requiem.common.impl.data.ParallelResourceParser;
 import ladysnake.requiem.common.util.EntityTypeAdapter;
 import net.fabricmc.fabric.api.resource.SimpleResourceReloadListener;
 import net.minecraft.entity.Entity;
@@ -47,23 +47,19 @@ import net.minecraft.entity.EntityType;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.damage.DamageSource;
 import net.minecraft.entity.mob.MobEntity;
-import net.minecraft.resource.Resource;
 import net.minecraft.resource.ResourceManager;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.profiler.Profiler;
 
 import javax.annotation.Nullable;
-import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.Reader;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 
-public final class ResurrectionDataLoader implements SimpleResourceReloadListener<List<ResurrectionData>> {
+public final class ResurrectionDataLoader implements SimpleResourceReloadListener<ResurrectionRuleIndex> {
     public static final ResurrectionDataLoader INSTANCE = new ResurrectionDataLoader();
 
     public static final Gson GSON = new GsonBuilder()
@@ -71,7 +67,7 @@ public final class ResurrectionDataLoader implements SimpleResourceReloadListene
         .registerTypeAdapter(new TypeToken<EntityType<?>>() {}.getType(), new EntityTypeAdapter())
         .create();
 
-    private final List<ResurrectionData> resurrectionData = new ArrayList<>();
+    private volatile ResurrectionRuleIndex resurrectionData = ResurrectionRuleIndex.EMPTY;
 
     @Nullable
     public MobEntity getNextBody(ServerPlayerEntity player, DamageSource killingBlow) {
@@ -80,10 +76,14 @@ public final class ResurrectionDataLoader implements SimpleResourceReloadListene
 
     @Nullable
     public MobEntity getNextBody(ServerPlayerEntity player, @Nullable LivingEntity possessed, DamageSource killingBlow) {
-        for (ResurrectionData resurrectionDatum : resurrectionData) {
-            if (resurrectionDatum.matches(player, possessed, killingBlow)) {
+        if (killingBlow.isOutOfWorld()) return null;
+
+        int damageFlags = ExtendedDamageSourcePredicate.getFlags(killingBlow);
+        for (ResurrectionData resurrectionDatum : this.resurrectionData.getCandidates(possessed)) {
+            if (resurrectionDatum.matches(player, possessed, killingBlow, damageFlags)) {
                 Entity nextBody = resurrectionDatum.createEntity(player.world);
-                if (nextBody instanceof MobEntity) {
+                // only the winning rule gets to use up a consumable
+                if (nextBody instanceof MobEntity && resurrectionDatum.tryUseConsumable(player, possessed == null ? player : possessed)) {
                     nextBody.copyPositionAndRotation(player);
                     return (MobEntity) nextBody;
                 }
@@ -93,27 +93,27 @@ public final class ResurrectionDataLoader implements SimpleResourceReloadListene
     }
 
     @Override
-    public CompletableFuture<List<ResurrectionData>> load(ResourceManager manager, Profiler profiler, Executor executor) {
-        return CompletableFuture.supplyAsync(() -> {
-            List<ResurrectionData> resurrectionData = new ArrayList<>();
-            for (Identifier location : manager.findResources("requiem_resurrections", (res) -> res.endsWith(".json"))) {
-                try (Resource res = manager.getResource(location); Reader in = new InputStreamReader(res.getInputStream())) {
-                    resurrectionData.add(ResurrectionData.deserialize(GSON.fromJson(in, JsonObject.class)));
-                } catch (IOException | JsonParseException e) {
-                    Requiem.LOGGER.error("[Requiem] Could not read resurrection data from {}", location, e);
+    public CompletableFuture<ResurrectionRuleIndex> load(ResourceManager manager, Profiler profiler, Executor executor) {
+        return CompletableFuture.supplyAsync(
+            () -> manager.findResources("requiem_resurrections", (res) -> res.endsWith(".json")),
+            executor
+        ).thenCompose(locations -> ParallelResourceParser.parseAll(
+            manager, locations, executor, "resurrection data", in -> ResurrectionData.deserialize(GSON.fromJson(in, JsonObject.class))
+        )).thenApply(parsed -> {
+            List<ResurrectionData> resurrectionData = new ArrayList<>(parsed.size());
+            for (ResurrectionData datum : parsed) {
+                if (datum != null) {
+                    resurrectionData.add(datum);
                 }
             }
             Collections.sort(resurrectionData);
-            return resurrectionData;
-        }, executor);
+            return new ResurrectionRuleIndex(resurrectionData);
+        });
     }
 
     @Override
-    public CompletableFuture<Void> apply(List<ResurrectionData> resurrectionData, ResourceManager resourceManager, Profiler profiler, Executor executor) {
-        return CompletableFuture.runAsync(() -> {
-            this.resurrectionData.clear();
-            this.resurrectionData.addAll(resurrectionData);
-        }, executor);
+    public CompletableFuture<Void> apply(ResurrectionRuleIndex resurrectionData, ResourceManager resourceManager, Profiler profiler, Executor executor) {
+        return CompletableFuture.runAsync(() -> this.resurrectionData = resurrectionData, executor);
     }
 
     @Override
@@ -0,0 +1,106 @@
+/*
+ * Requiem
+ * Copyright (C) 2017-2021 Ladysnake
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses>.
+ *
+ * Linking this mod statically or dynamically with other
+ * modules is making a combined work based on this mod.
+ * Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *
+ * In addition, as a special exception, the copyright holders of
+ * this mod give you permission to combine this mod
+ * with free software programs or libraries that are released under the GNU LGPL
+ * and with code included in the standard release of Minecraft under All Rights Reserved (or
+ * modified versions of such code, with unchanged license).
+ * You may copy and distribute such a system following the terms of the GNU GPL for this mod
+ * and the licenses of the other code concerned.
+ *
+ * Note that people who make modified versions of this mod are not obligated to grant
+ * this special exception for their modified versions; it is their choice whether to do so.
+ * The GNU General Public License gives permission to release a modified version without this exception;
+ * this exception also makes it possible to release a modified version which carries forward this exception.
+ */
+package ladysnake.requiem.common.impl.resurrection;
+
+import net.minecraft.entity.EntityType;
+import net.minecraft.entity.LivingEntity;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resurrection rules grouped by the kind of death they can apply to.
+ *
+ * <p>Every candidate list preserves the priority order of the original rule list,
+ * so the first rule matching in a list is also the first matching rule overall.
+ */
+final class ResurrectionRuleIndex {
+    static final ResurrectionRuleIndex EMPTY = new ResurrectionRuleIndex(Collections.emptyList());
+
+    /**Rules that can apply to a player that is not possessing anything*/
+    private final List<ResurrectionData> unpossessed;
+    /**Rules that can apply to a player possessing an entity of a type not in {@link #possessedByType}*/
+    private final List<ResurrectionData> anyPossessed;
+    private final Map<EntityType<?>, List<ResurrectionData>> possessedByType;
+
+    /**
+     * @param rules all resurrection rules, sorted by priority
+     */
+    ResurrectionRuleIndex(List<ResurrectionData> rules) {
+        List<ResurrectionData> unpossessed = new ArrayList<>();
+        List<ResurrectionData> anyPossessed = new ArrayList<>();
+        Map<EntityType<?>, List<ResurrectionData>> possessedByType = new HashMap<>();
+
+        for (ResurrectionData rule : rules) {
+            if (rule.getPossessedType() != null) {
+                possessedByType.computeIfAbsent(rule.getPossessedType(), t -> new ArrayList<>());
+            }
+        }
+
+        for (ResurrectionData rule : rules) {
+            EntityType<?> possessedType = rule.getPossessedType();
+            if (possessedType != null) {
+                possessedByType.get(possessedType).add(rule);
+            } else if (rule.requiresPossessed()) {
+                // may still match a null possessed entity if the predicate is ANY
+                unpossessed.add(rule);
+                anyPossessed.add(rule);
+                for (List<ResurrectionData> typed : possessedByType.values()) {
+                    typed.add(rule);
+                }
+            } else {
+                unpossessed.add(rule);
+            }
+        }
+
+        this.unpossessed = unpossessed;
+        this.anyPossessed = anyPossessed;
+        this.possessedByType = possessedByType;
+    }
+
+    /**
+     * @return the rules that may apply to a player dying while possessing {@code possessed}, in priority order
+     */
+    List<ResurrectionData> getCandidates(@Nullable LivingEntity possessed) {
+        if (possessed == null) {
+            return this.unpossessed;
+        }
+        return this.possessedByType.getOrDefault(possessed.getType(), this.anyPossessed);
+    }
+}
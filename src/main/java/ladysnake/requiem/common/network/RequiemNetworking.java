@@ -36,9 +36,9 @@ package ladysnake.requiem.common.network;
 
 import ladysnake.requiem.Requiem;
 import ladysnake.requiem.api.v1.entity.ability.AbilityType;
+import ladysnake.requiem.api.v1.remnant.RemnantComponent;
 import ladysnake.requiem.api.v1.remnant.RemnantType;
-import ladysnake.requiem.api.v1.util.SubDataManager;
-import ladysnake.requiem.api.v1.util.SubDataManagerHelper;
+import ladysnake.requiem.common.impl.data.SubDataSnapshot;
 import ladysnake.requiem.common.remnant.RemnantTypes;
 import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
 import net.minecraft.client.MinecraftClient;
@@ -55,6 +55,7 @@ import net.minecraft.util.Identifier;
 import org.jetbrains.annotations.Contract;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import static io.netty.buffer.Unpooled.buffer;
@@ -62,9 +63,12 @@ import static io.netty.buffer.Unpooled.buffer;
 public class RequiemNetworking {
     public static final Identifier OPUS_USE = Requiem.id("opus_use");
     public static final Identifier DATA_SYNC = Requiem.id("data_sync");
+    public static final Identifier DATA_SYNC_FULL = Requiem.id("data_sync_full");
+    public static final Identifier DATA_SYNC_DELTA = Requiem.id("data_sync_delta");
     public static final Identifier ETHEREAL_ANIMATION = Requiem.id("ethereal_animation");
     public static final Identifier CONSUME_RESURRECTION_ITEM = Requiem.id("consume_resurrection_item");
     public static final Identifier BODY_CURE = Requiem.id("body_cure");
+    public static final Identifier PHASING_PARTICLES = Requiem.id("phasing_particles");
 
     // Client -> Server
     public static final Identifier USE_DIRECT_ABILITY = Requiem.id("direct_ability");
@@ -74,6 +78,7 @@ public class RequiemNetworking {
     public static final Identifier DIALOGUE_ACTION = Requiem.id("dialogue_action");
     public static final Identifier HUGGING_WALL = Requiem.id("hugging_wall");
     public static final Identifier OPEN_CRAFTING_MENU = Requiem.id("open_crafting");
+    public static final Identifier DATA_SYNC_REQUEST = Requiem.id("data_sync_request");
 
     public static void sendToServer(Identifier identifier, PacketByteBuf data) {
         sendToServer(new CustomPayloadC2SPacket(identifier, data));
@@ -124,18 +129,44 @@ public class RequiemNetworking {
         return new CustomPayloadS2CPacket(id, createEmptyBuffer());
     }
 
-    public static CustomPayloadS2CPacket createDataSyncMessage(SubDataManagerHelper helper) {
+    public static CustomPayloadS2CPacket createDataSyncMessage(Map<Identifier, SubDataSnapshot> snapshots) {
         PacketByteBuf buf = createEmptyBuffer();
-        List<SubDataManager<?>> managers = helper.streamDataManagers().collect(Collectors.toList());
-        buf.writeVarInt(managers.size());
-        for (SubDataManager<?> manager : managers) {
-            Requiem.LOGGER.info("[Requiem] Synchronizing data for {} ({})", manager.getFabricId(), manager);
-            buf.writeIdentifier(manager.getFabricId());
-            manager.toPacket(buf);
+        buf.writeVarInt(snapshots.size());
+        for (Map.Entry<Identifier, SubDataSnapshot> entry : snapshots.entrySet()) {
+            buf.writeIdentifier(entry.getKey());
+            buf.writeLong(entry.getValue().getHash());
         }
         return new CustomPayloadS2CPacket(DATA_SYNC, buf);
     }
 
+    public static CustomPayloadS2CPacket createFullDataSyncMessage(Map<Identifier, SubDataSnapshot> snapshots) {
+        PacketByteBuf buf = createEmptyBuffer();
+        buf.writeVarInt(snapshots.size());
+        for (Map.Entry<Identifier, SubDataSnapshot> entry : snapshots.entrySet()) {
+            buf.writeIdentifier(entry.getKey());
+            entry.getValue().toPacket(buf);
+        }
+        return new CustomPayloadS2CPacket(DATA_SYNC_FULL, buf);
+    }
+
+    public static CustomPayloadS2CPacket createDataDeltaMessage(Map<Identifier, SubDataSnapshot> previous, Map<Identifier, SubDataSnapshot> snapshots) {
+        PacketByteBuf buf = createEmptyBuffer();
+        List<Map.Entry<Identifier, SubDataSnapshot>> changed = snapshots.entrySet().stream()
+            .filter(e -> e.getValue().getHash() != previous.getOrDefault(e.getKey(), SubDataSnapshot.EMPTY).getHash())
+            .collect(Collectors.toList());
+        buf.writeVarInt(changed.size());
+        for (Map.Entry<Identifier, SubDataSnapshot> entry : changed) {
+            buf.writeIdentifier(entry.getKey());
+            entry.getValue().writeDelta(buf, previous.getOrDefault(entry.getKey(), SubDataSnapshot.EMPTY));
+        }
+        return new CustomPayloadS2CPacket(DATA_SYNC_DELTA, buf);
+    }
+
+    @Contract(pure = true)
+    public static CustomPayloadC2SPacket createDataSyncRequestMessage() {
+        return new CustomPayloadC2SPacket(DATA_SYNC_REQUEST, createEmptyBuffer());
+    }
+
     @Contract(pure = true)
     public static PacketByteBuf createEmptyBuffer() {
         return new PacketByteBuf(buffer());
@@ -192,6 +223,23 @@ public class RequiemNetworking {
         sendTo(player, createEmptyMessage(ETHEREAL_ANIMATION));
     }
 
+    /**
+     * Shows phasing particles around a player to nearby demons, using the entity tracker's watchers.
+     */
+    public static void sendPhasingParticlesMessage(ServerPlayerEntity phasing) {
+        PacketByteBuf buf = createEmptyBuffer();
+        buf.writeVarInt(phasing.getEntityId());
+        CustomPayloadS2CPacket message = new CustomPayloadS2CPacket(PHASING_PARTICLES, buf);
+        for (ServerPlayerEntity p : PlayerLookup.tracking(phasing)) {
+            if (p.squaredDistanceTo(phasing) < 16 * 16 && RemnantComponent.get(p).getRemnantType().isDemon()) {
+                sendToPlayer(p, message);
+            }
+        }
+        if (RemnantComponent.get(phasing).getRemnantType().isDemon()) {
+            sendToPlayer(phasing, message);
+        }
+    }
+
     public static void sendBodyCureMessage(ServerPlayerEntity player) {
         PacketByteBuf buf = new PacketByteBuf(buffer());
         buf.writeVarInt(player.getEntityId());
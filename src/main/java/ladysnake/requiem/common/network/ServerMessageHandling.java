@@ -35,6 +35,7 @@
 package ladysnake.requiem.common.network;
 
 import ladysnake.requiem.api.v1.dialogue.DialogueTracker;
+import ladysnake.requiem.api.v1.entity.EntityTrait;
 import ladysnake.requiem.api.v1.entity.MovementAlterer;
 import ladysnake.requiem.api.v1.entity.ability.AbilityType;
 import ladysnake.requiem.api.v1.entity.ability.MobAbilityController;
@@ -42,10 +43,11 @@ import ladysnake.requiem.api.v1.event.requiem.InitiateFractureCallback;
 import ladysnake.requiem.api.v1.possession.PossessionComponent;
 import ladysnake.requiem.api.v1.remnant.RemnantComponent;
 import ladysnake.requiem.api.v1.remnant.RemnantType;
+import ladysnake.requiem.common.impl.ability.PlayerAbilityController;
+import ladysnake.requiem.common.impl.data.ServerSubDataManagerHelper;
 import ladysnake.requiem.common.item.OpusDemoniumItem;
 import ladysnake.requiem.common.item.RequiemItems;
 import ladysnake.requiem.common.remnant.RemnantTypes;
-import ladysnake.requiem.common.tag.RequiemEntityTypeTags;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.minecraft.block.Blocks;
 import net.minecraft.entity.Entity;
@@ -77,7 +79,7 @@ public class ServerMessageHandling {
                 }
 
                 // sync abilities in case the server disagrees with the client's guess
-                MobAbilityController.KEY.sync(player);
+                PlayerAbilityController.get(player).scheduleSync();
             });
         });
         ServerPlayNetworking.registerGlobalReceiver(USE_INDIRECT_ABILITY, (server, player, handler, buf, responseSender) -> {
@@ -132,15 +134,15 @@ public class ServerMessageHandling {
         });
         ServerPlayNetworking.registerGlobalReceiver(HUGGING_WALL, (server, player, handler, buf, responseSender) -> {
             boolean yes = buf.readBoolean();
-            // Possible failure points: the player may not actually be against a block, or it may not have the right movement
-            // we do not handle those right now, as movement is entirely done clientside
+            // This only reports the player's intent, the server checks for an actual wall itself
             server.execute(() -> MovementAlterer.get(player).hugWall(yes));
         });
         ServerPlayNetworking.registerGlobalReceiver(OPEN_CRAFTING_MENU, (server, player, handler, buf, responseSender) -> server.execute(() -> {
             MobEntity possessed = PossessionComponent.get(player).getPossessedEntity();
-            if (possessed != null && RequiemEntityTypeTags.SUPERCRAFTERS.contains(possessed.getType())) {
+            if (possessed != null && EntityTrait.SUPERCRAFTER.isIn(possessed.getType())) {
                 player.openHandledScreen(Blocks.CRAFTING_TABLE.getDefaultState().createScreenHandlerFactory(player.world, player.getBlockPos()));
             }
         }));
+        ServerPlayNetworking.registerGlobalReceiver(DATA_SYNC_REQUEST, (server, player, handler, buf, responseSender) -> server.execute(() -> ServerSubDataManagerHelper.getInstance().sendFullData(player)));
     }
 }
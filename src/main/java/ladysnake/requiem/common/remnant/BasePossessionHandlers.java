@@ -36,10 +36,10 @@ package ladysnake.requiem.common.remnant;
 
 import dev.onyxstudios.cca.api.v3.component.ComponentProvider;
 import ladysnake.requiem.Requiem;
+import ladysnake.requiem.api.v1.entity.EntityTrait;
 import ladysnake.requiem.api.v1.event.requiem.PossessionStartCallback;
 import ladysnake.requiem.api.v1.possession.Possessable;
 import ladysnake.requiem.api.v1.possession.PossessionComponent;
-import ladysnake.requiem.common.tag.RequiemEntityTypeTags;
 import ladysnake.requiem.mixin.common.access.EndermanEntityAccessor;
 import nerdhub.cardinal.components.api.event.TrackingStartCallback;
 import net.minecraft.entity.Entity;
@@ -64,18 +64,13 @@ public class BasePossessionHandlers {
                 }
             }
         });
-        PossessionStartCallback.EVENT.register(Requiem.id("blacklist"), (target, possessor, simulate) -> {
-            if (!target.world.isClient && RequiemEntityTypeTags.POSSESSION_BLACKLIST.contains(target.getType())) {
+        PossessionStartCallback.EVENT.register(Requiem.id("blacklist"), EntityTrait.POSSESSION_BLACKLISTED::isIn, (target, possessor, simulate) -> {
+            if (!target.world.isClient) {
                 return PossessionStartCallback.Result.DENY;
             }
             return PossessionStartCallback.Result.PASS;
         });
-        PossessionStartCallback.EVENT.register(Requiem.id("base_mobs"), (target, possessor, simulate) -> {
-            if (RequiemEntityTypeTags.POSSESSABLES.contains(target.getType())) {
-                return PossessionStartCallback.Result.ALLOW;
-            }
-            return PossessionStartCallback.Result.PASS;
-        });
+        PossessionStartCallback.EVENT.register(Requiem.id("base_mobs"), EntityTrait.POSSESSABLE::isIn, (target, possessor, simulate) -> PossessionStartCallback.Result.ALLOW);
         PossessionStartCallback.EVENT.register(Requiem.id("enderman"), BasePossessionHandlers::handleEndermanPossession);
     }
 
@@ -0,0 +1,80 @@
+/*
+ * Requiem
+ * Copyright (C) 2017-2021 Ladysnake
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses>.
+ *
+ * Linking this mod statically or dynamically with other
+ * modules is making a combined work based on this mod.
+ * Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *
+ * In addition, as a special exception, the copyright holders of
+ * this mod give you permission to combine this mod
+ * with free software programs or libraries that are released under the GNU LGPL
+ * and with code included in the standard release of Minecraft under All Rights Reserved (or
+ * modified versions of such code, with unchanged license).
+ * You may copy and distribute such a system following the terms of the GNU GPL for this mod
+ * and the licenses of the other code concerned.
+ *
+ * Note that people who make modified versions of this mod are not obligated to grant
+ * this special exception for their modified versions; it is their choice whether to do so.
+ * The GNU General Public License gives permission to release a modified version without this exception;
+ * this exception also makes it possible to release a modified version which carries forward this exception.
+ */
+package ladysnake.requiem.common.tag;
+
+import ladysnake.requiem.api.v1.entity.EntityTrait;
+import ladysnake.requiem.common.entity.internal.IndexedEntityType;
+import net.minecraft.entity.EntityType;
+import net.minecraft.tag.Tag;
+import net.minecraft.tag.TagGroup;
+import net.minecraft.tag.TagManager;
+
+/**
+ * Caches the {@link EntityTrait traits} of every entity type in a flat array.
+ *
+ * <p>The table is rebuilt from scratch whenever a new {@link TagManager} gets installed,
+ * and swapped in with a single write so that readers on any thread always see a complete table.
+ */
+public final class EntityTraitTable {
+    private static int nextIndex;
+    private static volatile long[] traits = new long[0];
+
+    /**
+     * Called during each {@link EntityType}'s construction
+     */
+    public static int allocateIndex() {
+        return nextIndex++;
+    }
+
+    public static long getTraits(EntityType<?> type) {
+        long[] traits = EntityTraitTable.traits;
+        int index = ((IndexedEntityType) type).requiem$getTraitIndex();
+        return index < traits.length ? traits[index] : 0L;
+    }
+
+    public static void rebuild(TagManager tagManager) {
+        TagGroup<EntityType<?>> entityTypeTags = tagManager.getEntityTypes();
+        long[] traits = new long[nextIndex];
+        for (EntityTrait trait : EntityTrait.values()) {
+            Tag<EntityType<?>> tag = entityTypeTags.getTag(trait.getTagId());
+            if (tag != null) {
+                for (EntityType<?> type : tag.values()) {
+                    traits[((IndexedEntityType) type).requiem$getTraitIndex()] |= trait.getMask();
+                }
+            }
+        }
+        EntityTraitTable.traits = traits;
+    }
+}
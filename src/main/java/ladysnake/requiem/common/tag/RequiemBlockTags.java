@@ -35,10 +35,25 @@
 package ladysnake.requiem.common.tag;
 
 import ladysnake.requiem.Requiem;
+import ladysnake.requiem.common.util.ExtendedBlockState;
 import net.fabricmc.fabric.api.tag.TagRegistry;
 import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
 import net.minecraft.tag.Tag;
+import net.minecraft.tag.TagManager;
 
 public final class RequiemBlockTags {
-    public static final Tag<Block> SOUL_IMPERMEABLE = TagRegistry.block(Requiem.id("soul_impermeable"));
+    public static final Tag.Identified<Block> SOUL_IMPERMEABLE = TagRegistry.block(Requiem.id("soul_impermeable"));
+
+    /**
+     * Caches {@link #SOUL_IMPERMEABLE} membership in every block state, for use in collision checks.
+     *
+     * <p>Called whenever a new {@link TagManager} gets installed.
+     */
+    public static void rebuildStateCaches(TagManager tagManager) {
+        Tag<Block> soulImpermeable = tagManager.getBlocks().getTag(SOUL_IMPERMEABLE.getId());
+        for (BlockState state : Block.STATE_IDS) {
+            ((ExtendedBlockState) state).requiem_setSoulImpermeable(soulImpermeable != null && soulImpermeable.contains(state.getBlock()));
+        }
+    }
 }
@@ -35,33 +35,39 @@
 package ladysnake.requiem.common.tag;
 
 import ladysnake.requiem.Requiem;
+import ladysnake.requiem.api.v1.entity.EntityTrait;
 import net.fabricmc.fabric.api.tag.TagRegistry;
 import net.minecraft.entity.EntityType;
 import net.minecraft.tag.Tag;
 
+/**
+ * Entity type tags used by Requiem.
+ *
+ * <p>Each of those tags gives an {@link EntityTrait}; checking the trait should be preferred over querying the tag directly.
+ */
 public final class RequiemEntityTypeTags {
-    public static final Tag<EntityType<?>> DICHROMATS = register("vision/dichromats");
-    public static final Tag<EntityType<?>> TETRACHROMATS = register("vision/tetrachromats");
+    public static final Tag<EntityType<?>> DICHROMATS = register(EntityTrait.DICHROMAT);
+    public static final Tag<EntityType<?>> TETRACHROMATS = register(EntityTrait.TETRACHROMAT);
 
-    public static final Tag<EntityType<?>> POSSESSION_BLACKLIST = register("possession/possession_blacklist");
-    public static final Tag<EntityType<?>> POSSESSABLES = register("possession/possessables");
-    public static final Tag<EntityType<?>> FRICTIONLESS_HOSTS = register("possession/frictionless_hosts");
+    public static final Tag<EntityType<?>> POSSESSION_BLACKLIST = register(EntityTrait.POSSESSION_BLACKLISTED);
+    public static final Tag<EntityType<?>> POSSESSABLES = register(EntityTrait.POSSESSABLE);
+    public static final Tag<EntityType<?>> FRICTIONLESS_HOSTS = register(EntityTrait.FRICTIONLESS_HOST);
 
-    public static final Tag<EntityType<?>> ARMOR_BANNED = register("inventory/armor_banned");
-    public static final Tag<EntityType<?>> ARMOR_USERS = register("inventory/armor_users");
-    public static final Tag<EntityType<?>> ITEM_USERS = register("inventory/item_users");
-    public static final Tag<EntityType<?>> INVENTORY_CARRIERS = register("inventory/inventory_carriers");
-    public static final Tag<EntityType<?>> SUPERCRAFTERS = register("inventory/supercrafters");
+    public static final Tag<EntityType<?>> ARMOR_BANNED = register(EntityTrait.ARMOR_BANNED);
+    public static final Tag<EntityType<?>> ARMOR_USERS = register(EntityTrait.ARMOR_USER);
+    public static final Tag<EntityType<?>> ITEM_USERS = register(EntityTrait.ITEM_USER);
+    public static final Tag<EntityType<?>> INVENTORY_CARRIERS = register(EntityTrait.INVENTORY_CARRIER);
+    public static final Tag<EntityType<?>> SUPERCRAFTERS = register(EntityTrait.SUPERCRAFTER);
 
-    public static final Tag<EntityType<?>> IMMOVABLE = register("behavior/immovable");
-    public static final Tag<EntityType<?>> EATERS = register("behavior/regular_eaters");
+    public static final Tag<EntityType<?>> IMMOVABLE = register(EntityTrait.IMMOVABLE);
+    public static final Tag<EntityType<?>> EATERS = register(EntityTrait.REGULAR_EATER);
 
-    public static final Tag<EntityType<?>> REPLACEABLE_SKELETONS = register("transformation/replaceable_skeletons");
+    public static final Tag<EntityType<?>> REPLACEABLE_SKELETONS = register(EntityTrait.REPLACEABLE_SKELETON);
 
-    public static final Tag<EntityType<?>> SKELETONS = register("skeletons");
-    public static final Tag<EntityType<?>> ZOMBIES = register("zombies");
-    public static final Tag<EntityType<?>> GOLEMS = register("golems");
-    public static final Tag<EntityType<?>> PIGLINS = register("piglins");
+    public static final Tag<EntityType<?>> SKELETONS = register(EntityTrait.SKELETON);
+    public static final Tag<EntityType<?>> ZOMBIES = register(EntityTrait.ZOMBIE);
+    public static final Tag<EntityType<?>> GOLEMS = register(EntityTrait.GOLEM);
+    public static final Tag<EntityType<?>> PIGLINS = register(EntityTrait.PIGLIN);
 
     public static void init() {
         // NO-OP
@@ -70,4 +76,8 @@ public final class RequiemEntityTypeTags {
     public static Tag<EntityType<?>> register(String name) {
         return TagRegistry.entityType(Requiem.id(name));
     }
+
+    private static Tag<EntityType<?>> register(EntityTrait trait) {
+        return TagRegistry.entityType(trait.getTagId());
+    }
 }
@@ -34,10 +34,10 @@
  */
 package ladysnake.requiem.common.util;
 
+import ladysnake.requiem.api.v1.entity.EntityTrait;
 import ladysnake.requiem.api.v1.event.requiem.HumanityCheckCallback;
 import ladysnake.requiem.api.v1.possession.Possessable;
 import ladysnake.requiem.api.v1.possession.PossessionComponent;
-import ladysnake.requiem.common.tag.RequiemEntityTypeTags;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.damage.DamageSource;
@@ -64,7 +64,7 @@ public final class DamageHelper {
         Entity attacker = source.getAttacker() instanceof PlayerEntity ? PossessionComponent.getPossessedEntity(source.getAttacker()) : source.getAttacker();
 
         // check that the attacker is being possessed, and that it can use its equipment
-        if (attacker instanceof Possessable && ((Possessable) attacker).isBeingPossessed() && RequiemEntityTypeTags.ITEM_USERS.contains(attacker.getType())) {
+        if (attacker instanceof Possessable && ((Possessable) attacker).isBeingPossessed() && EntityTrait.ITEM_USER.isIn(attacker.getType())) {
             return (LivingEntity) attacker;
         }
 
@@ -41,9 +41,11 @@ import org.apiguardian.api.API;
 import org.objectweb.asm.Type;
 
 import java.lang.invoke.*;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -193,6 +195,37 @@ public class ReflectionHelper {
         }
     }
 
+    /**
+     * Creates a factory invoking the constructor of <tt>clazz</tt> that takes a single parameter of type <tt>paramType</tt>.
+     * The constructor may be private, and is resolved once into a {@link MethodHandle}, so that
+     * the factory does not pay for the access checks of {@link Constructor#newInstance(Object...)} on every call.
+     *
+     * @param clazz     Class for which to create a factory
+     * @param paramType Type of the single parameter of the constructor
+     * @return a factory invoking the constructor
+     * @throws UncheckedReflectionException if the constructor cannot be found
+     * @apiNote for performance, store the returned value and avoid calling this repeatedly.
+     */
+    @API(status = MAINTAINED, since = "1.6.0")
+    public static <P, T> Function<P, T> createConstructorFactory(Class<? extends T> clazz, Class<P> paramType) {
+        MethodHandle handle;
+        try {
+            Constructor<? extends T> constructor = clazz.getDeclaredConstructor(paramType);
+            constructor.setAccessible(true);
+            handle = MethodHandles.lookup().unreflectConstructor(constructor).asType(MethodType.methodType(Object.class, Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new UncheckedReflectionException("Could not find the constructor of " + clazz.getName(), e);
+        }
+        return param -> {
+            try {
+                @SuppressWarnings("unchecked") T instance = (T) handle.invokeExact((Object) param);
+                return instance;
+            } catch (Throwable t) {
+                throw new UncheckedReflectionException("Failed to instantiate " + clazz.getName(), t);
+            }
+        };
+    }
+
     private static MappingResolver getMappingResolver() {
         return FabricLoader.getInstance().getMappingResolver();
     }
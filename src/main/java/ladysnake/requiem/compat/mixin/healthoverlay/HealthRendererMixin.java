@@ -49,7 +49,7 @@ import terrails.healthoverlay.HealthRenderer;
 public abstract class HealthRendererMixin {
     @Redirect(method = {"render", "renderHearts"}, at = @At(value = "INVOKE", target = "Lnet/minecraft/entity/player/PlayerEntity;getHealth()F"))
     private float substituteHealth(PlayerEntity player) {
-        LivingEntity possessed = PossessionComponent.get(player).getPossessedEntity();
+        LivingEntity possessed = PossessionComponent.getPossessedEntity(player);
         if (possessed != null) {
             return possessed.getHealth();
         }
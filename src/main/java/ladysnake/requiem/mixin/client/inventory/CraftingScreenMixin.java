@@ -34,9 +34,9 @@
  */
 package ladysnake.requiem.mixin.client.inventory;
 
+import ladysnake.requiem.api.v1.entity.EntityTrait;
 import ladysnake.requiem.api.v1.possession.PossessionComponent;
 import ladysnake.requiem.client.RequiemClient;
-import ladysnake.requiem.common.tag.RequiemEntityTypeTags;
 import net.minecraft.client.gui.screen.ingame.CraftingScreen;
 import net.minecraft.client.gui.screen.ingame.HandledScreen;
 import net.minecraft.client.gui.screen.ingame.InventoryScreen;
@@ -64,8 +64,8 @@ public abstract class CraftingScreenMixin extends HandledScreen<CraftingScreenHa
 
     @Inject(method = "init", at = @At("RETURN"))
     private void addSupercrafterButton(CallbackInfo ci) {
-        MobEntity possessedEntity = PossessionComponent.get(this.playerInventory.player).getPossessedEntity();
-        if (possessedEntity != null && RequiemEntityTypeTags.SUPERCRAFTERS.contains(possessedEntity.getType())) {
+        MobEntity possessedEntity = PossessionComponent.getPossessedEntity(this.playerInventory.player);
+        if (possessedEntity != null && EntityTrait.SUPERCRAFTER.isIn(possessedEntity.getType())) {
             this.supercrafterButton = this.addButton(new TexturedButtonWidget(
                 this.x + 5,
                 this.height / 2 - 30,
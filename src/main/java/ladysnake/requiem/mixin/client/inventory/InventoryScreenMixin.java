@@ -35,6 +35,7 @@
 package ladysnake.requiem.mixin.client.inventory;
 
 import ladysnake.requiem.Requiem;
+import ladysnake.requiem.api.v1.entity.EntityTrait;
 import ladysnake.requiem.api.v1.entity.InventoryLimiter;
 import ladysnake.requiem.api.v1.entity.InventoryPart;
 import ladysnake.requiem.api.v1.entity.InventoryShape;
@@ -43,7 +44,6 @@ import ladysnake.requiem.client.InventoryScreenAccessor;
 import ladysnake.requiem.client.RequiemClient;
 import ladysnake.requiem.common.impl.inventory.PossessionInventoryScreen;
 import ladysnake.requiem.common.network.RequiemNetworking;
-import ladysnake.requiem.common.tag.RequiemEntityTypeTags;
 import net.minecraft.client.gui.screen.ingame.AbstractInventoryScreen;
 import net.minecraft.client.gui.screen.ingame.InventoryScreen;
 import net.minecraft.client.gui.widget.AbstractButtonWidget;
@@ -110,7 +110,7 @@ public abstract class InventoryScreenMixin extends AbstractInventoryScreen<Playe
     @Inject(method = "init", at = @At("RETURN"))
     private void addSupercrafterButton(CallbackInfo ci) {
         MobEntity possessedEntity = this.possessionComponent.getPossessedEntity();
-        if (possessedEntity != null && RequiemEntityTypeTags.SUPERCRAFTERS.contains(possessedEntity.getType())) {
+        if (possessedEntity != null && EntityTrait.SUPERCRAFTER.isIn(possessedEntity.getType())) {
             this.supercrafterButton = this.addButton(new TexturedButtonWidget(
                 this.x + 131,
                 this.height / 2 - 22,
@@ -40,6 +40,7 @@ import ladysnake.requiem.api.v1.event.minecraft.client.UpdateTargetedEntityCallb
 import ladysnake.requiem.api.v1.possession.PossessionComponent;
 import ladysnake.requiem.api.v1.remnant.DeathSuspender;
 import ladysnake.requiem.api.v1.remnant.RemnantComponent;
+import ladysnake.requiem.client.ClientSoulState;
 import ladysnake.requiem.client.GameRendererAccessor;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gui.hud.InGameOverlayRenderer;
@@ -51,6 +52,7 @@ import net.minecraft.entity.player.PlayerEntity;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.Slice;
@@ -76,7 +78,12 @@ public abstract class GameRendererMixin implements GameRendererAccessor {
         return method_18144(tested);
     }
 
-    @Inject(method = "updateTargetedEntity", at = @At(value = "FIELD", target = "Lnet/minecraft/client/MinecraftClient;targetedEntity:Lnet/minecraft/entity/Entity;", ordinal = 0))
+    @Inject(method = "render", at = @At("HEAD"))
+    private void updateSoulState(float tickDelta, long startTime, boolean tick, CallbackInfo ci) {
+        ClientSoulState.update(this.client);
+    }
+
+    @Inject(method = "updateTargetedEntity", at = @At(value = "INVOKE", target = "Lnet/minecraft/util/profiler/Profiler;pop()V"))
     private void updateTargetedEntity(float tickDelta, CallbackInfo ci) {
         UpdateTargetedEntityCallback.EVENT.invoker().updateTargetedEntity(tickDelta);
     }
@@ -92,6 +99,7 @@ public abstract class GameRendererMixin implements GameRendererAccessor {
             remap = false
     )
     private static void unselectPossessedEntity(Entity tested, CallbackInfoReturnable<Boolean> info) {
+        // updateTargetedEntity also runs during the client tick, so the frame snapshot may be stale here
         Entity camera = MinecraftClient.getInstance().getCameraEntity();
         if (camera != null && PossessionComponent.getPossessedEntity(camera) == tested) {
             info.setReturnValue(false);
@@ -106,11 +114,17 @@ public abstract class GameRendererMixin implements GameRendererAccessor {
     @Inject(method = "shouldRenderBlockOutline", at = @At("HEAD"), cancellable = true)
     private void cancelBlockOutlineRender(CallbackInfoReturnable<Boolean> cir) {
         Entity camera = this.client.getCameraEntity();
-        if (camera instanceof PlayerEntity && (DeathSuspender.get((PlayerEntity) camera).isLifeTransient() || RemnantComponent.get((PlayerEntity) camera).isIncorporeal())) {
+        if (camera instanceof PlayerEntity && (DeathSuspender.get((PlayerEntity) camera).isLifeTransient() || isIncorporeal((PlayerEntity) camera))) {
             cir.setReturnValue(false);
         }
     }
 
+    @Unique
+    private static boolean isIncorporeal(PlayerEntity player) {
+        ClientSoulState soulState = ClientSoulState.get();
+        return soulState.isPlayer(player) ? soulState.isIncorporeal() : RemnantComponent.get(player).isIncorporeal();
+    }
+
     @Inject(
         method = "renderHand",
         slice = @Slice(from = @At(value = "INVOKE", target = "Lnet/minecraft/client/util/math/MatrixStack;pop()V")),
@@ -39,19 +39,17 @@ import ladysnake.requiem.api.v1.event.minecraft.client.CrosshairRenderCallback;
 import ladysnake.requiem.api.v1.possession.Possessable;
 import ladysnake.requiem.api.v1.possession.PossessionComponent;
 import ladysnake.requiem.api.v1.remnant.RemnantComponent;
+import ladysnake.requiem.client.ClientSoulState;
 import ladysnake.requiem.common.impl.ability.PlayerAbilityController;
 import ladysnake.requiem.common.tag.RequiemFluidTags;
-import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gui.DrawableHelper;
 import net.minecraft.client.gui.hud.InGameHud;
-import net.minecraft.client.network.ClientPlayerEntity;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.fluid.Fluid;
 import net.minecraft.tag.Tag;
 import net.minecraft.util.math.MathHelper;
-import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.Unique;
@@ -64,10 +62,6 @@ public abstract class InGameHudMixin extends DrawableHelper {
     @Unique
     private boolean skippedFood;
 
-    @Shadow
-    @Final
-    private MinecraftClient client;
-
     @Shadow
     private int scaledWidth;
     @Shadow
@@ -90,8 +84,8 @@ public abstract class InGameHudMixin extends DrawableHelper {
         at = @At(value = "STORE")
     )
     private boolean cancelAttackIndicatorRender(boolean shouldRender) {
-        assert this.client.player != null;
-        if (PlayerAbilityController.get(this.client.player).getTargetedEntity(AbilityType.ATTACK) != null) {
+        PlayerAbilityController abilityController = ClientSoulState.get().getAbilityController();
+        if (abilityController != null && abilityController.getTargetedEntity(AbilityType.ATTACK) != null) {
             return false;
         }
         return shouldRender;
@@ -108,9 +102,7 @@ public abstract class InGameHudMixin extends DrawableHelper {
         index = 20 // there are too many ints in this method, so we just take the variable index from the bytecode
     )
     private int preventArmorRender(int armor) {
-        assert client.player != null;
-
-        if (RemnantComponent.get(client.player).isIncorporeal()) {
+        if (ClientSoulState.get().isIncorporeal()) {
             // Make everything that follows *invisible*
             return 0;
         }
@@ -129,8 +121,7 @@ public abstract class InGameHudMixin extends DrawableHelper {
         index = 13 // there are too many ints in this method, so we just take the variable index from the bytecode
     )
     private float preventHealthRender(float maxHealth) {
-        assert client.player != null;
-        if (RemnantComponent.get(client.player).isIncorporeal()) {
+        if (ClientSoulState.get().isIncorporeal()) {
             return 0;
         }
         return maxHealth;
@@ -147,8 +138,7 @@ public abstract class InGameHudMixin extends DrawableHelper {
         index = 14 // there are too many ints in this method, so we just take the variable index from the bytecode
     )
     private int preventAbsorptionRender(int absorption) {
-        assert client.player != null;
-        if (RemnantComponent.get(client.player).isIncorporeal()) {
+        if (ClientSoulState.get().isIncorporeal()) {
             return 0;
         }
         return absorption;
@@ -160,10 +150,10 @@ public abstract class InGameHudMixin extends DrawableHelper {
         index = 23
     )
     private int preventFoodRender(int mountHeartCount) {
-        ClientPlayerEntity player = this.client.player;
+        ClientSoulState soulState = ClientSoulState.get();
 
-        if (mountHeartCount == 0 && player != null && RemnantComponent.get(player).isVagrant()) {
-            Possessable possessed = (Possessable) PossessionComponent.get(player).getPossessedEntity();
+        if (mountHeartCount == 0 && soulState.isVagrant()) {
+            Possessable possessed = (Possessable) soulState.getHost();
             if (possessed == null || !possessed.isRegularEater()) {
                 skippedFood = true;
                 return -1;
@@ -191,9 +181,11 @@ public abstract class InGameHudMixin extends DrawableHelper {
     )
     private Tag<Fluid> preventAirRender(Tag<Fluid> fluid) {
         PlayerEntity playerEntity = this.getCameraPlayer();
+        ClientSoulState soulState = ClientSoulState.get();
+        boolean vagrant = soulState.isPlayer(playerEntity) ? soulState.isVagrant() : RemnantComponent.get(playerEntity).isVagrant();
 
-        if (RemnantComponent.get(playerEntity).isVagrant()) {
-            LivingEntity possessed = PossessionComponent.get(playerEntity).getPossessedEntity();
+        if (vagrant) {
+            LivingEntity possessed = soulState.isPlayer(playerEntity) ? soulState.getHost() : PossessionComponent.getPossessedEntity(playerEntity);
             if (possessed == null) {
                 return RequiemFluidTags.EMPTY;  // will cause isSubmergedIn to return false
             } else if (possessed.canBreatheInWater()) {
@@ -206,8 +198,7 @@ public abstract class InGameHudMixin extends DrawableHelper {
 
     @ModifyVariable(method = "renderStatusBars", at = @At(value = "INVOKE", target = "Lnet/minecraft/util/Util;getMeasuringTimeMs()J"), ordinal = 0)
     private int substituteHealth(int health) {
-        assert client.player != null;
-        LivingEntity entity = PossessionComponent.get(client.player).getPossessedEntity();
+        LivingEntity entity = ClientSoulState.get().getHost();
         if (entity != null) {
             return MathHelper.ceil(entity.getHealth());
         }
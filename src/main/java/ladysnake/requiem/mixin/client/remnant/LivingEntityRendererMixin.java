@@ -35,6 +35,7 @@
 package ladysnake.requiem.mixin.client.remnant;
 
 import ladysnake.requiem.api.v1.remnant.RemnantComponent;
+import ladysnake.requiem.client.ClientSoulState;
 import net.minecraft.client.render.VertexConsumerProvider;
 import net.minecraft.client.render.entity.LivingEntityRenderer;
 import net.minecraft.client.render.entity.feature.FeatureRenderer;
@@ -52,7 +53,8 @@ import java.util.Iterator;
 public abstract class LivingEntityRendererMixin<T extends LivingEntity, M extends EntityModel<T>> {
     @ModifyVariable(method = "render", at = @At(value = "INVOKE_ASSIGN", target = "Ljava/util/List;iterator()Ljava/util/Iterator;"))
     private Iterator<FeatureRenderer<T, M>> emptyFeatures(Iterator<FeatureRenderer<T, M>> iterator, T entity, float yaw, float tickDelta, MatrixStack matrices, VertexConsumerProvider vertexConsumers, int light) {
-        if (RemnantComponent.isVagrant(entity)) {
+        ClientSoulState soulState = ClientSoulState.get();
+        if (soulState.isPlayer(entity) ? soulState.isVagrant() : RemnantComponent.isVagrant(entity)) {
             return Collections.emptyIterator();
         }
         return iterator;
@@ -49,9 +49,6 @@ public interface EntityAccessor {
     @Invoker("getEyeHeight")
     float requiem$invokeGetEyeHeight(EntityPose pose, EntityDimensions dimensions);
 
-    @Invoker("adjustMovementForCollisions")
-    Vec3d requiem$invokeAdjustMovementForCollisions(Vec3d movement);
-
     @Invoker("movementInputToVelocity")
     static Vec3d requiem$invokeMovementInputToVelocity(Vec3d movementInput, float speed, float yaw) {
         throw new IllegalStateException(movementInput + "" + speed + "" + yaw);
@@ -38,27 +38,52 @@ import ladysnake.requiem.common.entity.attribute.NonDeterministicAttribute;
 import ladysnake.requiem.common.entity.attribute.NonDeterministicModifier;
 import net.minecraft.entity.attribute.EntityAttributeInstance;
 import org.jetbrains.annotations.Nullable;
+import org.objectweb.asm.Opcodes;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
-import org.spongepowered.asm.mixin.injection.Inject;
-import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.asm.mixin.injection.Redirect;
+
+import java.util.Arrays;
 
 @Mixin(EntityAttributeInstance.class)
 public abstract class EntityAttributeInstanceMixin implements NonDeterministicAttribute {
+    @Shadow
+    private double value;
+
     @Unique
-    private @Nullable NonDeterministicModifier finalModifier;
+    private @Nullable NonDeterministicModifier[] finalModifiers;
 
     @Override
     public void addFinalModifier(NonDeterministicModifier modifier) {
-        if (this.finalModifier != null) finalModifier = finalModifier.andThen(modifier);
-        else this.finalModifier = modifier;
+        NonDeterministicModifier[] modifiers = this.finalModifiers;
+        if (modifiers == null) {
+            this.finalModifiers = new NonDeterministicModifier[] {modifier};
+        } else {
+            modifiers = Arrays.copyOf(modifiers, modifiers.length + 1);
+            modifiers[modifiers.length - 1] = modifier;
+            this.finalModifiers = modifiers;
+        }
     }
 
-    @Inject(method = "getValue", at = @At("RETURN"), cancellable = true)
-    private void getValue(CallbackInfoReturnable<Double> cir) {
-        if (this.finalModifier != null) {
-            this.finalModifier.apply(cir.getReturnValueD()).ifPresent(cir::setReturnValue);
+    /**
+     * Applies final modifiers to the cached value when it gets returned.
+     *
+     * <p>This is a field redirect rather than a return injection, as {@code getValue} is called
+     * far too often to allocate a callback every time.
+     */
+    @Redirect(method = "getValue", at = @At(value = "FIELD", opcode = Opcodes.GETFIELD, target = "Lnet/minecraft/entity/attribute/EntityAttributeInstance;value:D"))
+    private double applyFinalModifiers(EntityAttributeInstance self) {
+        double value = this.value;
+        NonDeterministicModifier[] modifiers = this.finalModifiers;
+        if (modifiers != null) {
+            for (NonDeterministicModifier modifier : modifiers) {
+                if (modifier.isActive()) {
+                    value = modifier.apply(value);
+                }
+            }
         }
+        return value;
     }
 }
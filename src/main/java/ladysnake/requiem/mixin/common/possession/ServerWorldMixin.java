@@ -37,11 +37,14 @@ package ladysnake.requiem.mixin.common.possession;
 import ladysnake.requiem.api.v1.internal.ProtoPossessable;
 import ladysnake.requiem.api.v1.possession.Possessable;
 import ladysnake.requiem.api.v1.possession.PossessionComponent;
+import ladysnake.requiem.common.impl.possession.PossessedEntityRegistryHolder;
+import ladysnake.requiem.common.impl.possession.PossessedEntityRegistryImpl;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.mob.MobEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
@@ -49,7 +52,15 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import static org.spongepowered.asm.mixin.injection.At.Shift.AFTER;
 
 @Mixin(ServerWorld.class)
-public abstract class ServerWorldMixin {
+public abstract class ServerWorldMixin implements PossessedEntityRegistryHolder {
+    @Unique
+    private final PossessedEntityRegistryImpl requiem_possessedEntities = new PossessedEntityRegistryImpl();
+
+    @Override
+    public PossessedEntityRegistryImpl requiem_getPossessedEntityRegistry() {
+        return this.requiem_possessedEntities;
+    }
+
     @Inject(method = "loadEntityUnchecked", at = @At(value = "INVOKE", target = "Lnet/minecraft/server/world/ServerChunkManager;loadEntity(Lnet/minecraft/entity/Entity;)V", shift = AFTER))
     private void possessLoadedEntities(Entity entity, CallbackInfo ci) {
         PlayerEntity possessor = ((ProtoPossessable) entity).getPossessor();
@@ -62,4 +73,11 @@ public abstract class ServerWorldMixin {
             }
         }
     }
+
+    @Inject(method = "unloadEntity", at = @At("HEAD"))
+    private void unregisterPossessedEntity(Entity entity, CallbackInfo ci) {
+        if (entity instanceof MobEntity) {
+            this.requiem_possessedEntities.remove((MobEntity) entity);
+        }
+    }
 }
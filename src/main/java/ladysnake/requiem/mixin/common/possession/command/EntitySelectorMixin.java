@@ -0,0 +1,128 @@
+/*
+ * Requiem
+ * Copyright (C) 2017-2021 Ladysnake
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses>.
+ *
+ * Linking this mod statically or dynamically with other
+ * modules is making a combined work based on this mod.
+ * Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *
+ * In addition, as a special exception, the copyright holders of
+ * this mod give you permission to combine this mod
+ * with free software programs or libraries that are released under the GNU LGPL
+ * and with code included in the standard release of Minecraft under All Rights Reserved (or
+ * modified versions of such code, with unchanged license).
+ * You may copy and distribute such a system following the terms of the GNU GPL for this mod
+ * and the licenses of the other code concerned.
+ *
+ * Note that people who make modified versions of this mod are not obligated to grant
+ * this special exception for their modified versions; it is their choice whether to do so.
+ * The GNU General Public License gives permission to release a modified version without this exception;
+ * this exception also makes it possible to release a modified version which carries forward this exception.
+ */
+package ladysnake.requiem.mixin.common.possession.command;
+
+import ladysnake.requiem.api.v1.possession.PossessedEntityRegistry;
+import ladysnake.requiem.common.command.PossessorSelector;
+import net.minecraft.command.EntitySelector;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityType;
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.server.command.ServerCommandSource;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.Vec3d;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+@Mixin(EntitySelector.class)
+public abstract class EntitySelectorMixin implements PossessorSelector {
+    @Shadow @Final private boolean includesNonPlayers;
+    @Shadow @Final private boolean localWorldOnly;
+    @Shadow @Final private boolean senderOnly;
+    @Shadow @Final private Function<Vec3d, Vec3d> positionOffset;
+    @Shadow @Final @Nullable private String playerName;
+    @Shadow @Final @Nullable private UUID uuid;
+    @Shadow @Final @Nullable private EntityType<?> type;
+
+    @Unique
+    private @Nullable String requiem_possessorName;
+
+    @Shadow
+    private native Predicate<Entity> getPositionPredicate(Vec3d pos);
+
+    @Shadow
+    private native <T extends Entity> List<T> getEntities(Vec3d pos, List<T> entities);
+
+    @Nullable
+    @Override
+    public String requiem_getPossessorName() {
+        return this.requiem_possessorName;
+    }
+
+    @Override
+    public void requiem_setPossessorName(@Nullable String possessorName) {
+        this.requiem_possessorName = possessorName;
+    }
+
+    /**
+     * Looks up the host of the player named by a {@code requiem:possessor} option directly,
+     * instead of testing every entity in the world against the option's predicate.
+     */
+    @Inject(
+        method = "getEntities(Lnet/minecraft/server/command/ServerCommandSource;)Ljava/util/List;",
+        at = @At(value = "INVOKE", target = "Lnet/minecraft/command/EntitySelector;check(Lnet/minecraft/server/command/ServerCommandSource;)V", shift = At.Shift.AFTER),
+        cancellable = true
+    )
+    private void findPossessedEntity(ServerCommandSource source, CallbackInfoReturnable<List<? extends Entity>> cir) {
+        String possessorName = this.requiem_possessorName;
+
+        // other kinds of selectors either do not scan the world or cannot select a host
+        if (possessorName == null || possessorName.isEmpty() || !this.includesNonPlayers || this.senderOnly || this.playerName != null || this.uuid != null) {
+            return;
+        }
+
+        Vec3d origin = this.positionOffset.apply(source.getPosition());
+        List<Entity> found = new ArrayList<>(1);
+        ServerPlayerEntity possessor = source.getMinecraftServer().getPlayerManager().getPlayer(possessorName);
+
+        // the player manager lookup ignores case, the option does not
+        if (possessor != null && possessor.getGameProfile().getName().equals(possessorName)) {
+            ServerWorld world = possessor.getServerWorld();
+            MobEntity host = PossessedEntityRegistry.get(world).getPossessedEntity(possessor.getUuid());
+
+            if (host != null && !host.removed
+                && (!this.localWorldOnly || world == source.getWorld())
+                && (this.type == null || host.getType() == this.type)
+                && this.getPositionPredicate(origin).test(host)) {
+                found.add(host);
+            }
+        }
+
+        cir.setReturnValue(this.getEntities(origin, found));
+    }
+}
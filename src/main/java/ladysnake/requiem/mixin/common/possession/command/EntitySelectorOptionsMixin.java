@@ -35,6 +35,7 @@
 package ladysnake.requiem.mixin.common.possession.command;
 
 import ladysnake.requiem.api.v1.possession.Possessable;
+import ladysnake.requiem.common.command.PossessorSelector;
 import net.minecraft.command.EntitySelectorOptions;
 import net.minecraft.command.EntitySelectorReader;
 import net.minecraft.entity.player.PlayerEntity;
@@ -67,12 +68,17 @@ public abstract class EntitySelectorOptionsMixin {
         putOption("requiem:possessor", reader -> {
             boolean negated = reader.readNegationCharacter();
             String expectedName = reader.getReader().readString();
+            if (!negated) {
+                // lets the selector look the host up directly, see EntitySelectorMixin
+                ((PossessorSelector) reader).requiem_setPossessorName(expectedName);
+            }
             reader.setPredicate((entity) -> {
                 if (!(entity instanceof Possessable)) {
                     return false;
                 } else {
+                    // compare profile names directly, getName() would build a new Text for every entity
                     PlayerEntity possessor = ((Possessable) entity).getPossessor();
-                    String possessorName = possessor == null ? "" : possessor.getName().asString();
+                    String possessorName = possessor == null ? "" : possessor.getGameProfile().getName();
                     return possessorName.equals(expectedName) != negated;
                 }
             });
@@ -34,8 +34,8 @@
  */
 package ladysnake.requiem.mixin.common.possession.gameplay;
 
+import ladysnake.requiem.api.v1.entity.EntityTrait;
 import ladysnake.requiem.api.v1.possession.PossessionComponent;
-import ladysnake.requiem.common.tag.RequiemEntityTypeTags;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.screen.CraftingScreenHandler;
@@ -49,8 +49,8 @@ public abstract class CraftingScreenHandlerMixin {
     @Inject(method = "canUse", at = @At("RETURN"), cancellable = true)
     private void allowSupercrafters(PlayerEntity player, CallbackInfoReturnable<Boolean> cir) {
         if (!cir.getReturnValueZ()) {
-            Entity possessedEntity = PossessionComponent.get(player).getPossessedEntity();
-            if (possessedEntity != null && RequiemEntityTypeTags.SUPERCRAFTERS.contains(possessedEntity.getType())) {
+            Entity possessedEntity = PossessionComponent.getPossessedEntity(player);
+            if (possessedEntity != null && EntityTrait.SUPERCRAFTER.isIn(possessedEntity.getType())) {
                 cir.setReturnValue(true);
             }
         }
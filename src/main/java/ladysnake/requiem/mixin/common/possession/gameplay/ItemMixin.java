@@ -34,10 +34,10 @@
  */
 package ladysnake.requiem.mixin.common.possession.gameplay;
 
+import ladysnake.requiem.api.v1.entity.EntityTrait;
 import ladysnake.requiem.api.v1.possession.Possessable;
 import ladysnake.requiem.api.v1.possession.PossessionComponent;
 import ladysnake.requiem.common.entity.SkeletonBoneComponent;
-import ladysnake.requiem.common.tag.RequiemEntityTypeTags;
 import ladysnake.requiem.common.tag.RequiemItemTags;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.mob.DrownedEntity;
@@ -66,14 +66,14 @@ public abstract class ItemMixin {
             if (possessionComponent.canBeCured(heldStack)) {
                 player.setCurrentHand(hand);
                 cir.setReturnValue(new TypedActionResult<>(ActionResult.SUCCESS, heldStack));
-            } else if (RequiemEntityTypeTags.ZOMBIES.contains(possessedEntity.getType())) {
+            } else if (EntityTrait.ZOMBIE.isIn(possessedEntity.getType())) {
                 if (RequiemItemTags.RAW_MEATS.contains(heldStack.getItem()) || RequiemItemTags.RAW_FISHES.contains(heldStack.getItem()) && possessedEntity instanceof DrownedEntity) {
                     player.setCurrentHand(hand);
                     cir.setReturnValue(new TypedActionResult<>(ActionResult.SUCCESS, heldStack));
                 } else {
                     cir.setReturnValue(new TypedActionResult<>(ActionResult.FAIL, heldStack));
                 }
-            } else if (RequiemEntityTypeTags.SKELETONS.contains(possessedEntity.getType())) {
+            } else if (EntityTrait.SKELETON.isIn(possessedEntity.getType())) {
                 if (RequiemItemTags.BONES.contains(heldStack.getItem())) {
                     if (SkeletonBoneComponent.KEY.get(possessedEntity).replaceBone()) {
                         heldStack.decrement(1);
@@ -34,8 +34,8 @@
  */
 package ladysnake.requiem.mixin.common.possession.gameplay;
 
+import ladysnake.requiem.api.v1.entity.EntityTrait;
 import ladysnake.requiem.api.v1.possession.PossessionComponent;
-import ladysnake.requiem.common.tag.RequiemEntityTypeTags;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.effect.StatusEffectInstance;
 import net.minecraft.entity.effect.StatusEffects;
@@ -54,7 +54,7 @@ public abstract class MilkBucketItemMixin {
     @Inject(method = "finishUsing", at = @At(value = "INVOKE", target = "Lnet/minecraft/entity/LivingEntity;clearStatusEffects()Z", shift = AFTER))
     private void regenSkeletons(ItemStack stack, World world, LivingEntity user, CallbackInfoReturnable<ItemStack> cir) {
         LivingEntity possessed = PossessionComponent.getPossessedEntity(user);
-        if (possessed != null && RequiemEntityTypeTags.SKELETONS.contains(possessed.getType())) {
+        if (possessed != null && EntityTrait.SKELETON.isIn(possessed.getType())) {
             possessed.addStatusEffect(new StatusEffectInstance(StatusEffects.RESISTANCE, 30*20));
         }
     }
@@ -63,7 +63,7 @@ public abstract class BowItemMixin extends RangedWeaponItem {
 
     @Inject(method = "use", at = @At(value = "INVOKE", target = "Lnet/minecraft/entity/player/PlayerEntity;setCurrentHand(Lnet/minecraft/util/Hand;)V"))
     private void setAttackingMode(World world, PlayerEntity player, Hand hand, CallbackInfoReturnable<TypedActionResult<ItemStack>> cir) {
-        MobEntity possessed = PossessionComponent.get(player).getPossessedEntity();
+        MobEntity possessed = PossessionComponent.getPossessedEntity(player);
         if (possessed != null) {
             possessed.setAttacking(true);
         }
@@ -35,6 +35,7 @@
 package ladysnake.requiem.mixin.common.possession.possessed;
 
 import com.google.common.base.Preconditions;
+import ladysnake.requiem.api.v1.entity.EntityTrait;
 import ladysnake.requiem.api.v1.possession.Possessable;
 import ladysnake.requiem.api.v1.possession.PossessionComponent;
 import ladysnake.requiem.common.VanillaRequiemPlugin;
@@ -45,9 +46,9 @@ import ladysnake.requiem.common.entity.attribute.NonDeterministicAttribute;
 import ladysnake.requiem.common.entity.effect.AttritionStatusEffect;
 import ladysnake.requiem.common.entity.internal.VariableMobilityEntity;
 import ladysnake.requiem.common.gamerule.RequiemGamerules;
+import ladysnake.requiem.common.impl.possession.PossessedEntityRegistryImpl;
 import ladysnake.requiem.common.impl.possession.PossessionComponentImpl;
 import ladysnake.requiem.common.impl.resurrection.ResurrectionDataLoader;
-import ladysnake.requiem.common.tag.RequiemEntityTypeTags;
 import ladysnake.requiem.mixin.common.access.LivingEntityAccessor;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityType;
@@ -65,6 +66,7 @@ import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.text.Text;
 import net.minecraft.text.TranslatableText;
 import net.minecraft.world.Difficulty;
@@ -90,10 +92,6 @@ import static org.spongepowered.asm.mixin.injection.At.Shift.AFTER;
  */
 @Mixin(LivingEntity.class)
 abstract class PossessableLivingEntityMixin extends Entity implements Possessable, VariableMobilityEntity {
-    @Unique
-    private final boolean requiem_immovable = RequiemEntityTypeTags.IMMOVABLE.contains(this.getType());
-    @Unique
-    private final boolean requiem_regularEater = RequiemEntityTypeTags.EATERS.contains(this.getType());
     @Unique
     private boolean requiem_wasCustomNameVisible;
     @Unique
@@ -146,11 +144,6 @@ abstract class PossessableLivingEntityMixin extends Entity implements Possessabl
     @Nullable
     @Override
     public PlayerEntity getPossessor() {
-        if (this.possessor != null && this.possessor.removed) {
-            PossessionComponent.get(this.possessor).stopPossessing();
-            // Make doubly sure
-            this.setPossessor(null);
-        }
         return possessor;
     }
 
@@ -167,7 +160,7 @@ abstract class PossessableLivingEntityMixin extends Entity implements Possessabl
         // we need a cast here to trick the compiler
         // clever Idea assumes possessedEntity cannot be this because of the wrong class, which is wrong because Mixin
         //noinspection ConstantConditions
-        if ((this.possessor != null && PossessionComponent.get(this.possessor).getPossessedEntity() == (Entity) this) && !this.world.isClient) {
+        if ((this.possessor != null && PossessionComponent.getPossessedEntity(this.possessor) == (Entity) this) && !this.world.isClient) {
             throw new IllegalStateException("Players must stop possessing an entity before it can change possessor!");
         }
 
@@ -222,12 +215,12 @@ abstract class PossessableLivingEntityMixin extends Entity implements Possessabl
 
     @Override
     public boolean requiem_isImmovable() {
-        return requiem_immovable;
+        return EntityTrait.IMMOVABLE.isIn(this.getType());
     }
 
     @Override
     public boolean isRegularEater() {
-        return requiem_regularEater;
+        return EntityTrait.REGULAR_EATER.isIn(this.getType());
     }
 
     /* * * * * * * * * * *
@@ -279,6 +272,13 @@ abstract class PossessableLivingEntityMixin extends Entity implements Possessabl
     @Inject(method = "tick", at = @At("RETURN"))
     private void tick(CallbackInfo ci) {
         PlayerEntity player = this.getPossessor();
+        if (player != null && player.removed) {
+            // Stale possessors get cleaned up here rather than on every access
+            PossessionComponent.get(player).stopPossessing();
+            // Make doubly sure
+            this.setPossessor(null);
+            player = null;
+        }
         if (player != null) {
             // Make possessed monsters despawn gracefully
             if (!this.world.isClient) {
@@ -287,6 +287,11 @@ abstract class PossessableLivingEntityMixin extends Entity implements Possessabl
                 }
                 // Absorption only exists on the server for non-player entities
                 player.setAbsorptionAmount(this.getAbsorptionAmount());
+                if ((Object) this instanceof MobEntity) {
+                    PossessedEntityRegistryImpl.get((ServerWorld) this.world).updateChunk((MobEntity) (Object) this);
+                }
+                // Status effects changed on either side during this tick get mirrored in one go
+                ((PossessionComponentImpl) PossessionComponent.get(player)).flushStatusEffects();
             }
             this.onGround = player.isOnGround();
         }
@@ -299,7 +304,7 @@ abstract class PossessableLivingEntityMixin extends Entity implements Possessabl
         if (player != null) {
             this.setRotation(player.yaw, player.pitch);
             this.headYaw = this.bodyYaw = this.prevYaw = this.yaw;
-            if (!this.requiem_immovable) {
+            if (!this.requiem_isImmovable()) {
                 this.setSwimming(player.isSwimming());
                 // Prevent this entity from taking fall damage unless triggered by the possessor
                 this.fallDistance = 0;
@@ -370,25 +375,24 @@ abstract class PossessableLivingEntityMixin extends Entity implements Possessabl
 
     @Inject(method = "onStatusEffectApplied", at = @At("RETURN"))
     private void onStatusEffectAdded(StatusEffectInstance effect, CallbackInfo ci) {
-        PlayerEntity possessor = this.getPossessor();
-        if (possessor instanceof ServerPlayerEntity) {
-            possessor.addStatusEffect(new StatusEffectInstance(effect));
-        }
+        this.markStatusEffectDirty(effect);
     }
     @Inject(method = "onStatusEffectUpgraded", at = @At("RETURN"))
     private void onStatusEffectUpdated(StatusEffectInstance effect, boolean upgrade, CallbackInfo ci) {
         if (upgrade) {
-            PlayerEntity possessor = this.getPossessor();
-            if (possessor instanceof ServerPlayerEntity) {
-                possessor.addStatusEffect(new StatusEffectInstance(effect));
-            }
+            this.markStatusEffectDirty(effect);
         }
     }
     @Inject(method = "onStatusEffectRemoved", at = @At("RETURN"))
     private void onStatusEffectRemoved(StatusEffectInstance effect, CallbackInfo ci) {
+        this.markStatusEffectDirty(effect);
+    }
+
+    @Unique
+    private void markStatusEffectDirty(StatusEffectInstance effect) {
         PlayerEntity possessor = this.getPossessor();
         if (possessor instanceof ServerPlayerEntity) {
-            possessor.removeStatusEffect(effect.getEffectType());
+            ((PossessionComponentImpl) PossessionComponent.get(possessor)).markStatusEffectDirty(effect.getEffectType(), false);
         }
     }
 
@@ -124,7 +124,7 @@ public abstract class PlayerManagerMixin {
             )
     )
     private void logOutPossessedEntity(ServerPlayerEntity player, CallbackInfo info) {
-        Entity possessedEntity = PossessionComponent.get(player).getPossessedEntity();
+        Entity possessedEntity = PossessionComponent.getPossessedEntity(player);
         if (possessedEntity != null) {
             ServerWorld world = player.getServerWorld();
             world.removeEntity(possessedEntity);
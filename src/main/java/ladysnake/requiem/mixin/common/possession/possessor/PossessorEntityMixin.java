@@ -34,8 +34,10 @@
  */
 package ladysnake.requiem.mixin.common.possession.possessor;
 
+import ladysnake.requiem.api.v1.internal.ProtoPossessor;
 import net.minecraft.block.BlockState;
 import net.minecraft.entity.Entity;
+import net.minecraft.entity.mob.MobEntity;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import org.spongepowered.asm.mixin.Mixin;
@@ -45,8 +47,17 @@ import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
+import javax.annotation.Nullable;
+
 @Mixin(Entity.class)
-public abstract class PossessorEntityMixin {
+public abstract class PossessorEntityMixin implements ProtoPossessor {
+
+    @Nullable
+    @Override
+    public MobEntity requiem$getPossessedEntity() {
+        // overridden by PossessorPlayerEntityMixin
+        return null;
+    }
 
     @Invoker("getX")
     protected abstract double requiem$getX();
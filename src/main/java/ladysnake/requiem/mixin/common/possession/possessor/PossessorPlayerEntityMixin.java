@@ -35,14 +35,15 @@
 package ladysnake.requiem.mixin.common.possession.possessor;
 
 import com.mojang.authlib.GameProfile;
-import dev.onyxstudios.cca.api.v3.component.ComponentProvider;
 import ladysnake.requiem.api.v1.entity.MovementAlterer;
 import ladysnake.requiem.api.v1.possession.Possessable;
 import ladysnake.requiem.api.v1.possession.PossessionComponent;
 import ladysnake.requiem.api.v1.remnant.RemnantComponent;
 import ladysnake.requiem.common.entity.attribute.NonDeterministicAttribute;
 import ladysnake.requiem.common.entity.attribute.PossessionDelegatingModifier;
+import ladysnake.requiem.common.entity.internal.PossessingEntity;
 import ladysnake.requiem.common.entity.internal.VariableMobilityEntity;
+import ladysnake.requiem.common.impl.possession.PossessionComponentImpl;
 import ladysnake.requiem.common.tag.RequiemItemTags;
 import ladysnake.requiem.mixin.common.access.LivingEntityAccessor;
 import net.minecraft.entity.Entity;
@@ -68,16 +69,18 @@ import net.minecraft.util.registry.Registry;
 import net.minecraft.world.World;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.Slice;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
+import javax.annotation.Nullable;
 import java.util.EnumSet;
 
 @Mixin(PlayerEntity.class)
-public abstract class PossessorPlayerEntityMixin extends PossessorLivingEntityMixin {
+public abstract class PossessorPlayerEntityMixin extends PossessorLivingEntityMixin implements PossessingEntity {
 
     @Shadow
     public abstract HungerManager getHungerManager();
@@ -85,21 +88,53 @@ public abstract class PossessorPlayerEntityMixin extends PossessorLivingEntityMi
     @Shadow
     public abstract ItemCooldownManager getItemCooldownManager();
 
+    @Unique
+    @Nullable
+    private MobEntity requiem_possessedEntity;
+
+    @Nullable
+    @Override
+    public MobEntity requiem$getPossessedEntity() {
+        MobEntity possessed = this.requiem_possessedEntity;
+        // Removed entities only get recovered at the next tick, but must not be acted upon in the meantime
+        return possessed == null || possessed.removed ? null : possessed;
+    }
+
+    @Override
+    public void requiem_setPossessedEntity(@Nullable MobEntity possessed) {
+        this.requiem_possessedEntity = possessed;
+    }
+
     @Inject(method = "<init>", at = @At("RETURN"))
     private void initAttributes(World world, BlockPos pos, float yaw, GameProfile profile, CallbackInfo ci) {
-        // Replace every registered attribute
+        PossessionComponent possessionComponent = PossessionComponent.KEY.get(this);
+        // Replace every attribute the player has
         for (EntityAttribute attribute : Registry.ATTRIBUTE) {
-            // Note: this fills the attribute map for the player, whether this is an issue is to be determined
+            // Note: this creates an instance for each of the player's default attributes, as default values
+            // are read straight from the fallback container and would otherwise bypass delegation
+            // Attributes that players do not have return null and are left untouched
             EntityAttributeInstance current = this.requiem$getAttributeInstance(attribute);
             if (current != null) {
-                ((NonDeterministicAttribute) current).addFinalModifier(new PossessionDelegatingModifier(current.getAttribute(), PossessionComponent.KEY.get(this)));
+                ((NonDeterministicAttribute) current).addFinalModifier(new PossessionDelegatingModifier(attribute, possessionComponent));
             }
         }
     }
 
+    /**
+     * Possessed entities can get removed from the world at any time (unloading, dimension change...).
+     * Accessors ignore removed entities, and stale references get cleaned up or recovered once per tick.
+     */
+    @Inject(method = "tick", at = @At("HEAD"))
+    private void validatePossessedEntity(CallbackInfo ci) {
+        MobEntity possessed = this.requiem_possessedEntity;
+        if (possessed != null && possessed.removed) {
+            ((PossessionComponentImpl) PossessionComponent.KEY.get(this)).recoverPossessedEntity();
+        }
+    }
+
     @Inject(method = "travel", at = @At("HEAD"), cancellable = true)
     private void travel(CallbackInfo info) {
-        @SuppressWarnings("ConstantConditions") Entity possessed = PossessionComponent.getPossessedEntity((Entity) (Object) this);
+        Entity possessed = this.requiem$getPossessedEntity();
         if (possessed != null && ((VariableMobilityEntity) possessed).requiem_isImmovable()) {
             if (!this.requiem$getWorld().isClient && (this.requiem$getX() != possessed.getX() || this.requiem$getY() != possessed.getY() || this.requiem$getZ() != possessed.getZ())) {
                 ServerPlayNetworkHandler networkHandler = ((ServerPlayerEntity) (Object) this).networkHandler;
@@ -116,7 +151,7 @@ public abstract class PossessorPlayerEntityMixin extends PossessorLivingEntityMi
      */
     @Inject(method = "getDimensions", at = @At("HEAD"), cancellable = true)
     private void adjustSize(EntityPose pose, CallbackInfoReturnable<EntityDimensions> cir) {
-        Entity possessedEntity = PossessionComponent.KEY.get(this).getPossessedEntity();
+        Entity possessedEntity = this.requiem$getPossessedEntity();
         if (possessedEntity != null) {
             cir.setReturnValue(possessedEntity.getDimensions(pose));
         }
@@ -124,7 +159,7 @@ public abstract class PossessorPlayerEntityMixin extends PossessorLivingEntityMi
 
     @Inject(method = "canConsume", at = @At("RETURN"), cancellable = true)
     private void canSoulConsume(boolean ignoreHunger, CallbackInfoReturnable<Boolean> cir) {
-        Possessable possessed = (Possessable) PossessionComponent.KEY.get(this).getPossessedEntity();
+        Possessable possessed = (Possessable) this.requiem$getPossessedEntity();
         if (possessed != null) {
             cir.setReturnValue(ignoreHunger || possessed.isRegularEater() && this.getHungerManager().isNotFull());
         }
@@ -132,7 +167,7 @@ public abstract class PossessorPlayerEntityMixin extends PossessorLivingEntityMi
 
     @Inject(method = "canFoodHeal", at = @At("RETURN"), cancellable = true)
     private void canFoodHealPossessed(CallbackInfoReturnable<Boolean> cir) {
-        LivingEntity possessed = PossessionComponent.KEY.get(this).getPossessedEntity();
+        LivingEntity possessed = this.requiem$getPossessedEntity();
         if (possessed != null) {
             cir.setReturnValue(((Possessable) possessed).isRegularEater() && possessed.getHealth() > 0 && possessed.getHealth() < possessed.getMaxHealth());
         }
@@ -140,7 +175,7 @@ public abstract class PossessorPlayerEntityMixin extends PossessorLivingEntityMi
 
     @Inject(method = "addExhaustion", slice = @Slice(to = @At("INVOKE:FIRST")), at = @At(value = "RETURN"))
     private void addExhaustion(float exhaustion, CallbackInfo ci) {
-        Possessable possessed = (Possessable) PossessionComponent.KEY.get(this).getPossessedEntity();
+        Possessable possessed = (Possessable) this.requiem$getPossessedEntity();
         if (possessed != null && possessed.isRegularEater()) {
             if (!this.requiem$getWorld().isClient) {
                 this.getHungerManager().addExhaustion(exhaustion);
@@ -150,8 +185,7 @@ public abstract class PossessorPlayerEntityMixin extends PossessorLivingEntityMi
 
     @Inject(method = "eatFood", at = @At(value = "INVOKE", target = "Lnet/minecraft/entity/player/HungerManager;eat(Lnet/minecraft/item/Item;Lnet/minecraft/item/ItemStack;)V"))
     private void eatZombieFood(World world, ItemStack stack, CallbackInfoReturnable<ItemStack> cir) {
-        PossessionComponent possessionComponent = PossessionComponent.KEY.get(this);
-        MobEntity possessedEntity = possessionComponent.getPossessedEntity();
+        MobEntity possessedEntity = this.requiem$getPossessedEntity();
         if (possessedEntity instanceof ZombieEntity && stack.getItem().isFood()) {
             if (RequiemItemTags.RAW_MEATS.contains(stack.getItem()) || RequiemItemTags.RAW_FISHES.contains(stack.getItem()) && possessedEntity instanceof DrownedEntity) {
                 FoodComponent food = stack.getItem().getFoodComponent();
@@ -160,37 +194,35 @@ public abstract class PossessorPlayerEntityMixin extends PossessorLivingEntityMi
                 this.getItemCooldownManager().set(stack.getItem(), 150);
             }
         }
-        if (possessedEntity != null && possessionComponent.canBeCured(stack)) {
-            possessionComponent.startCuring();
+        if (possessedEntity != null) {
+            PossessionComponent possessionComponent = PossessionComponent.KEY.get(this);
+            if (possessionComponent.canBeCured(stack)) {
+                possessionComponent.startCuring();
+            }
         }
     }
 
     @Override
     protected void requiem$delegateBreath(CallbackInfoReturnable<Integer> cir) {
-        @SuppressWarnings("ConstantConditions") Entity self = (Entity) (Object) this;
-        // This method can be called in the constructor
-        if (ComponentProvider.fromEntity(self).getComponentContainer() != null) {
-            Entity possessedEntity = PossessionComponent.getPossessedEntity(self);
-            if (possessedEntity != null) {
-                cir.setReturnValue(possessedEntity.getAir());
-            }
+        // This method can be called in the constructor, in which case the field is still null
+        Entity possessedEntity = this.requiem$getPossessedEntity();
+        if (possessedEntity != null) {
+            cir.setReturnValue(possessedEntity.getAir());
         }
     }
 
     @Override
     protected void requiem$delegateMaxBreath(CallbackInfoReturnable<Integer> cir) {
-        // This method can be called in the constructor, before CCA is initialized
-        if (((ComponentProvider) this).getComponentContainer() != null) {
-            @SuppressWarnings("ConstantConditions") Entity possessedEntity = PossessionComponent.getPossessedEntity((Entity) (Object) this);
-            if (possessedEntity != null) {
-                cir.setReturnValue(possessedEntity.getMaxAir());
-            }
+        // This method can be called in the constructor, in which case the field is still null
+        Entity possessedEntity = this.requiem$getPossessedEntity();
+        if (possessedEntity != null) {
+            cir.setReturnValue(possessedEntity.getMaxAir());
         }
     }
 
     @Override
     protected void requiem$canFly(CallbackInfoReturnable<Boolean> cir) {
-        MobEntity possessedEntity = PossessionComponent.KEY.get(this).getPossessedEntity();
+        MobEntity possessedEntity = this.requiem$getPossessedEntity();
         if (possessedEntity != null) {
             cir.setReturnValue(false);
         }
@@ -198,7 +230,7 @@ public abstract class PossessorPlayerEntityMixin extends PossessorLivingEntityMi
 
     @Override
     protected void requiem$setSprinting(boolean sprinting, CallbackInfo ci) {
-        MobEntity possessedEntity = PossessionComponent.KEY.get(this).getPossessedEntity();
+        MobEntity possessedEntity = this.requiem$getPossessedEntity();
         if (possessedEntity != null) {
             possessedEntity.setSprinting(sprinting);
         }
@@ -217,7 +249,7 @@ public abstract class PossessorPlayerEntityMixin extends PossessorLivingEntityMi
             if (RemnantComponent.KEY.get(this).isIncorporeal()) {
                 cir.setReturnValue(true);
             } else {
-                MobEntity possessedEntity = PossessionComponent.KEY.get(this).getPossessedEntity();
+                MobEntity possessedEntity = this.requiem$getPossessedEntity();
 
                 if (possessedEntity != null && possessedEntity.canAvoidTraps()) {
                     cir.setReturnValue(true);
@@ -228,7 +260,7 @@ public abstract class PossessorPlayerEntityMixin extends PossessorLivingEntityMi
 
     @Override
     protected void requiem$isOnFire(CallbackInfoReturnable<Boolean> cir) {
-        MobEntity possessedEntity = PossessionComponent.KEY.get(this).getPossessedEntity();
+        MobEntity possessedEntity = this.requiem$getPossessedEntity();
         if (possessedEntity != null) {
             cir.setReturnValue(possessedEntity.isOnFire());
         } else if (RemnantComponent.KEY.get(this).isIncorporeal()) {
@@ -239,7 +271,7 @@ public abstract class PossessorPlayerEntityMixin extends PossessorLivingEntityMi
 
     @Override
     protected void requiem$canWalkOnFluid(Fluid fluid, CallbackInfoReturnable<Boolean> cir) {
-        MobEntity possessedEntity = PossessionComponent.KEY.get(this).getPossessedEntity();
+        MobEntity possessedEntity = this.requiem$getPossessedEntity();
         if (possessedEntity != null) {
             cir.setReturnValue(possessedEntity.canWalkOnFluid(fluid));
         }
@@ -247,12 +279,10 @@ public abstract class PossessorPlayerEntityMixin extends PossessorLivingEntityMi
 
     @Inject(method = "getActiveEyeHeight", at = @At("HEAD"), cancellable = true)
     private void adjustEyeHeight(EntityPose pose, EntityDimensions size, CallbackInfoReturnable<Float> cir) {
-        // This method can be called in the Entity constructor, before CCA is initialized
-        if (((ComponentProvider)this).getComponentContainer() != null) {
-            @SuppressWarnings("ConstantConditions") LivingEntity possessed = PossessionComponent.getPossessedEntity((Entity) (Object) this);
-            if (possessed != null) {
-                cir.setReturnValue(((LivingEntityAccessor) possessed).requiem$invokeGetEyeHeight(pose, possessed.getDimensions(pose)));
-            }
+        // This method can be called in the Entity constructor, in which case the field is still null
+        LivingEntity possessed = this.requiem$getPossessedEntity();
+        if (possessed != null) {
+            cir.setReturnValue(((LivingEntityAccessor) possessed).requiem$invokeGetEyeHeight(pose, possessed.getDimensions(pose)));
         }
     }
 }
@@ -40,6 +40,7 @@ import ladysnake.requiem.api.v1.RequiemPlayer;
 import ladysnake.requiem.api.v1.possession.PossessionComponent;
 import ladysnake.requiem.api.v1.remnant.MobResurrectable;
 import ladysnake.requiem.common.advancement.criterion.RequiemCriteria;
+import ladysnake.requiem.common.impl.possession.PossessionComponentImpl;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityType;
 import net.minecraft.entity.LivingEntity;
@@ -162,7 +163,7 @@ public abstract class PossessorServerPlayerEntityMixin extends PlayerEntity impl
 
     @Inject(method = "swingHand", at = @At("HEAD"))
     private void swingHand(Hand hand, CallbackInfo ci) {
-        LivingEntity possessed = PossessionComponent.get(this).getPossessedEntity();
+        LivingEntity possessed = PossessionComponent.getPossessedEntity(this);
 
         if (possessed != null) {
             possessed.swingHand(hand);
@@ -171,37 +172,24 @@ public abstract class PossessorServerPlayerEntityMixin extends PlayerEntity impl
 
     @Inject(method = "onStatusEffectApplied", at = @At("RETURN"))
     private void onStatusEffectAdded(StatusEffectInstance effect, CallbackInfo ci) {
-        MobEntity possessed = PossessionComponent.get(this).getPossessedEntity();
-
-        if (possessed != null) {
-            possessed.addStatusEffect(new StatusEffectInstance(effect));
-        }
+        ((PossessionComponentImpl) PossessionComponent.get(this)).markStatusEffectDirty(effect.getEffectType(), true);
     }
 
     @Inject(method = "onStatusEffectUpgraded", at = @At("RETURN"))
     private void onStatusEffectUpdated(StatusEffectInstance effect, boolean upgrade, CallbackInfo ci) {
         if (upgrade) {
-            MobEntity possessed = PossessionComponent.get(this).getPossessedEntity();
-
-            if (possessed != null) {
-                possessed.addStatusEffect(new StatusEffectInstance(effect));
-            }
+            ((PossessionComponentImpl) PossessionComponent.get(this)).markStatusEffectDirty(effect.getEffectType(), true);
         }
     }
 
     @Inject(method = "onStatusEffectRemoved", at = @At("RETURN"))
     private void onStatusEffectRemoved(StatusEffectInstance effect, CallbackInfo ci) {
-        MobEntity possessed = PossessionComponent.get(this).getPossessedEntity();
-
-        if (possessed != null) {
-            possessed.removeStatusEffect(effect.getEffectType());
-        }
+        ((PossessionComponentImpl) PossessionComponent.get(this)).markStatusEffectDirty(effect.getEffectType(), true);
     }
 
-
     @Inject(method = "writeCustomDataToTag", at = @At("RETURN"))
     private void writePossessedMobToTag(CompoundTag tag, CallbackInfo info) {
-        Entity possessedEntity = PossessionComponent.get(this).getPossessedEntity();
+        Entity possessedEntity = PossessionComponent.getPossessedEntity(this);
 
         if (possessedEntity != null) {
             Entity possessedEntityVehicle = possessedEntity.getRootVehicle();
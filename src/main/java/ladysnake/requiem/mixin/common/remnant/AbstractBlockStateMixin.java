@@ -34,34 +34,48 @@
  */
 package ladysnake.requiem.mixin.common.remnant;
 
-import ladysnake.requiem.common.tag.RequiemBlockTags;
+import ladysnake.requiem.common.util.ExtendedBlockState;
 import ladysnake.requiem.common.util.ExtendedShapeContext;
 import net.minecraft.block.AbstractBlock;
 import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
 import net.minecraft.block.ShapeContext;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.shape.VoxelShape;
 import net.minecraft.util.shape.VoxelShapes;
 import net.minecraft.world.BlockView;
 import org.spongepowered.asm.mixin.Mixin;
-import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
-import org.spongepowered.asm.mixin.injection.Inject;
-import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.asm.mixin.injection.Redirect;
 
 @Mixin(AbstractBlock.AbstractBlockState.class)
-public abstract class AbstractBlockStateMixin {
-    @Shadow
-    public abstract Block getBlock();
+public abstract class AbstractBlockStateMixin implements ExtendedBlockState {
+    @Unique
+    private boolean requiem_soulImpermeable;
 
-    @Inject(
-        at = @At("HEAD"),
+    @Override
+    public boolean requiem_isSoulImpermeable() {
+        return this.requiem_soulImpermeable;
+    }
+
+    @Override
+    public void requiem_setSoulImpermeable(boolean soulImpermeable) {
+        this.requiem_soulImpermeable = soulImpermeable;
+    }
+
+    /**
+     * This method is extremely hot, so we redirect the delegating call instead of injecting a callback:
+     * contexts that are not no-clipping only pay for a field read.
+     */
+    @Redirect(
         method = "getCollisionShape(Lnet/minecraft/world/BlockView;Lnet/minecraft/util/math/BlockPos;Lnet/minecraft/block/ShapeContext;)Lnet/minecraft/util/shape/VoxelShape;",
-        cancellable = true
+        at = @At(value = "INVOKE", target = "Lnet/minecraft/block/Block;getCollisionShape(Lnet/minecraft/block/BlockState;Lnet/minecraft/world/BlockView;Lnet/minecraft/util/math/BlockPos;Lnet/minecraft/block/ShapeContext;)Lnet/minecraft/util/shape/VoxelShape;")
     )
-    private void phaseThroughBlocks(BlockView world, BlockPos pos, ShapeContext context, CallbackInfoReturnable<VoxelShape> info) {
-        if (((ExtendedShapeContext) context).requiem_isNoClipping() && !this.getBlock().isIn(RequiemBlockTags.SOUL_IMPERMEABLE)) {
-            info.setReturnValue(VoxelShapes.empty());
+    private VoxelShape phaseThroughBlocks(Block block, BlockState state, BlockView world, BlockPos pos, ShapeContext context) {
+        if (((ExtendedShapeContext) context).requiem_isNoClipping() && !this.requiem_soulImpermeable) {
+            return VoxelShapes.empty();
         }
+        return block.getCollisionShape(state, world, pos, context);
     }
 }
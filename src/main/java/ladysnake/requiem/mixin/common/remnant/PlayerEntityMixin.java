@@ -35,8 +35,8 @@
 package ladysnake.requiem.mixin.common.remnant;
 
 import ladysnake.requiem.api.v1.RequiemPlayer;
-import ladysnake.requiem.api.v1.entity.MovementAlterer;
 import ladysnake.requiem.api.v1.remnant.RemnantComponent;
+import ladysnake.requiem.common.entity.internal.PhasingEntity;
 import net.minecraft.entity.EntityDimensions;
 import net.minecraft.entity.EntityPose;
 import net.minecraft.entity.EntityType;
@@ -50,6 +50,7 @@ import org.objectweb.asm.Opcodes;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.Slice;
@@ -57,13 +58,28 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
 @Mixin(PlayerEntity.class)
-public abstract class PlayerEntityMixin extends LivingEntity implements RequiemPlayer {
+public abstract class PlayerEntityMixin extends LivingEntity implements RequiemPlayer, PhasingEntity {
 
     /* Implementation of RequiemPlayer */
 
     @Shadow @Final public PlayerAbilities abilities;
     private static final EntityDimensions REQUIEM$SOUL_SNEAKING_SIZE = EntityDimensions.changing(0.6f, 0.6f);
 
+    @Unique
+    private boolean requiem_noClipping;
+
+    /* Implementation of PhasingEntity */
+
+    @Override
+    public boolean requiem_isNoClipping() {
+        return this.requiem_noClipping;
+    }
+
+    @Override
+    public void requiem_setNoClipping(boolean noClipping) {
+        this.requiem_noClipping = noClipping;
+    }
+
     /* Actual modifications of vanilla behaviour */
 
     @Inject(method = "isSwimming", at = @At("HEAD"), cancellable = true)
@@ -87,7 +103,7 @@ public abstract class PlayerEntityMixin extends LivingEntity implements RequiemP
         )
     )
     private void slowGhosts(Vec3d movementInput, CallbackInfo ci) {
-        if (MovementAlterer.KEY.get(this).isNoClipping()) {
+        if (this.requiem_noClipping) {
             this.flyingSpeed *= 0.1;
         }
     }
@@ -0,0 +1,103 @@
+/*
+ * Requiem
+ * Copyright (C) 2017-2021 Ladysnake
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses>.
+ *
+ * Linking this mod statically or dynamically with other
+ * modules is making a combined work based on this mod.
+ * Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *
+ * In addition, as a special exception, the copyright holders of
+ * this mod give you permission to combine this mod
+ * with free software programs or libraries that are released under the GNU LGPL
+ * and with code included in the standard release of Minecraft under All Rights Reserved (or
+ * modified versions of such code, with unchanged license).
+ * You may copy and distribute such a system following the terms of the GNU GPL for this mod
+ * and the licenses of the other code concerned.
+ *
+ * Note that people who make modified versions of this mod are not obligated to grant
+ * this special exception for their modified versions; it is their choice whether to do so.
+ * The GNU General Public License gives permission to release a modified version without this exception;
+ * this exception also makes it possible to release a modified version which carries forward this exception.
+ */
+package ladysnake.requiem.common.entity.ability;
+
+import net.minecraft.util.math.Vec3d;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AbilityTargetQueryTest {
+    // MathHelper.cos goes through a lookup table
+    private static final double TABLE_EPSILON = 1e-3;
+    private static final Vec3d NORTH = new Vec3d(0, 0, -1);
+
+    @Test
+    void minCosAngleMatchesCosine() {
+        assertEquals(1, AbilityTargetQuery.minCosAngle(0), TABLE_EPSILON);
+        assertEquals(Math.cos(Math.toRadians(30)), AbilityTargetQuery.minCosAngle(30), TABLE_EPSILON);
+        assertEquals(0, AbilityTargetQuery.minCosAngle(90), TABLE_EPSILON);
+    }
+
+    @Test
+    void wideAnglesDisableTheCone() {
+        assertEquals(-1, AbilityTargetQuery.minCosAngle(180));
+        assertEquals(-1, AbilityTargetQuery.minCosAngle(360));
+        // Even a target right behind passes
+        assertTrue(AbilityTargetQuery.isWithinCone(NORTH, 0, 0, 5, AbilityTargetQuery.minCosAngle(180)));
+    }
+
+    @Test
+    void acceptsOffsetsAlongTheAxis() {
+        double minCos = AbilityTargetQuery.minCosAngle(10);
+        assertTrue(AbilityTargetQuery.isWithinCone(NORTH, 0, 0, -1, minCos));
+        assertTrue(AbilityTargetQuery.isWithinCone(NORTH, 0, 0, -50, minCos));
+    }
+
+    @Test
+    void rejectsOffsetsBehindOrToTheSide() {
+        double minCos = AbilityTargetQuery.minCosAngle(45);
+        assertFalse(AbilityTargetQuery.isWithinCone(NORTH, 0, 0, 3, minCos));
+        assertFalse(AbilityTargetQuery.isWithinCone(NORTH, 3, 0, 0, minCos));
+        assertFalse(AbilityTargetQuery.isWithinCone(NORTH, 0, -3, 0, minCos));
+    }
+
+    @Test
+    void boundaryFollowsTheHalfAngle() {
+        double minCos = AbilityTargetQuery.minCosAngle(45);
+        // 40 degrees off axis is inside, 50 degrees is outside, regardless of distance
+        for (double distance : new double[] {0.5, 4, 32}) {
+            assertTrue(AbilityTargetQuery.isWithinCone(NORTH, offsetX(40, distance), 0, offsetZ(40, distance), minCos));
+            assertFalse(AbilityTargetQuery.isWithinCone(NORTH, offsetX(50, distance), 0, offsetZ(50, distance), minCos));
+            assertTrue(AbilityTargetQuery.isWithinCone(NORTH, 0, offsetX(40, distance), offsetZ(40, distance), minCos));
+            assertFalse(AbilityTargetQuery.isWithinCone(NORTH, 0, -offsetX(50, distance), offsetZ(50, distance), minCos));
+        }
+    }
+
+    @Test
+    void zeroOffsetIsWithinCone() {
+        assertTrue(AbilityTargetQuery.isWithinCone(NORTH, 0, 0, 0, AbilityTargetQuery.minCosAngle(10)));
+    }
+
+    private static double offsetX(double angle, double distance) {
+        return Math.sin(Math.toRadians(angle)) * distance;
+    }
+
+    private static double offsetZ(double angle, double distance) {
+        return -Math.cos(Math.toRadians(angle)) * distance;
+    }
+}
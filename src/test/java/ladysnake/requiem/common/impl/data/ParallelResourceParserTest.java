@@ -0,0 +1,160 @@
+/*
+ * Requiem
+ * Copyright (C) 2017-2021 Ladysnake
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses>.
+ *
+ * Linking this mod statically or dynamically with other
+ * modules is making a combined work based on this mod.
+ * Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *
+ * In addition, as a special exception, the copyright holders of
+ * this mod give you permission to combine this mod
+ * with free software programs or libraries that are released under the GNU LGPL
+ * and with code included in the standard release of Minecraft under All Rights Reserved (or
+ * modified versions of such code, with unchanged license).
+ * You may copy and distribute such a system following the terms of the GNU GPL for this mod
+ * and the licenses of the other code concerned.
+ *
+ * Note that people who make modified versions of this mod are not obligated to grant
+ * this special exception for their modified versions; it is their choice whether to do so.
+ * The GNU General Public License gives permission to release a modified version without this exception;
+ * this exception also makes it possible to release a modified version which carries forward this exception.
+ */
+package ladysnake.requiem.common.impl.data;
+
+import com.google.gson.JsonParseException;
+import net.minecraft.resource.Resource;
+import net.minecraft.resource.ResourceImpl;
+import net.minecraft.util.Identifier;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParallelResourceParserTest {
+    private static final ParallelResourceParser.Parser<String> READ_ALL = in -> {
+        StringBuilder sb = new StringBuilder();
+        char[] buf = new char[64];
+        int read;
+        while ((read = in.read(buf)) != -1) {
+            sb.append(buf, 0, read);
+        }
+        return sb.toString();
+    };
+
+    @Test
+    void keepsInputOrder() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Resource> resources = new ArrayList<>();
+            List<String> expected = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                resources.add(resource("file_" + i, "content " + i));
+                expected.add("content " + i);
+            }
+
+            List<String> results = ParallelResourceParser.parseAll(resources, executor, "test", READ_ALL).join();
+
+            assertEquals(expected, results);
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void failuresBecomeNull() {
+        List<Resource> resources = Arrays.asList(
+            resource("ok", "first"),
+            resource("io", "io"),
+            resource("json", "json"),
+            resource("ok2", "last")
+        );
+
+        List<String> results = ParallelResourceParser.parseAll(resources, Runnable::run, "test", in -> {
+            String content = READ_ALL.parse(in);
+            if (content.equals("io")) throw new IOException("expected");
+            if (content.equals("json")) throw new JsonParseException("expected");
+            return content;
+        }).join();
+
+        assertEquals(Arrays.asList("first", null, null, "last"), results);
+    }
+
+    @Test
+    void closesEveryResource() {
+        TrackingInputStream ok = new TrackingInputStream("ok");
+        TrackingInputStream failing = new TrackingInputStream("failing");
+        List<Resource> resources = Arrays.asList(resource("ok", ok), resource("failing", failing));
+
+        ParallelResourceParser.parseAll(resources, Runnable::run, "test", in -> {
+            if (READ_ALL.parse(in).equals("failing")) throw new IOException("expected");
+            return "ok";
+        }).join();
+
+        assertTrue(ok.closed);
+        assertTrue(failing.closed);
+    }
+
+    @Test
+    void readsUtf8() {
+        String content = "\u00e9t\u00e9 \u9b42 \ud83d\udc7b";
+
+        List<String> results = ParallelResourceParser.parseAll(
+            Arrays.asList(resource("utf8", content)), Runnable::run, "test", READ_ALL
+        ).join();
+
+        assertEquals(Arrays.asList(content), results);
+    }
+
+    @Test
+    void emptyInputCompletesWithEmptyList() {
+        List<String> results = ParallelResourceParser.parseAll(new ArrayList<>(), Runnable::run, "test", READ_ALL).join();
+
+        assertTrue(results.isEmpty());
+    }
+
+    private static Resource resource(String path, String content) {
+        return resource(path, new TrackingInputStream(content));
+    }
+
+    private static Resource resource(String path, TrackingInputStream in) {
+        return new ResourceImpl("test", new Identifier("requiem", path), in, null);
+    }
+
+    private static final class TrackingInputStream extends ByteArrayInputStream {
+        boolean closed;
+
+        TrackingInputStream(String content) {
+            super(content.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.closed = true;
+            super.close();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Requiem
+ * Copyright (C) 2017-2021 Ladysnake
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses>.
+ *
+ * Linking this mod statically or dynamically with other
+ * modules is making a combined work based on this mod.
+ * Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *
+ * In addition, as a special exception, the copyright holders of
+ * this mod give you permission to combine this mod
+ * with free software programs or libraries that are released under the GNU LGPL
+ * and with code included in the standard release of Minecraft under All Rights Reserved (or
+ * modified versions of such code, with unchanged license).
+ * You may copy and distribute such a system following the terms of the GNU GPL for this mod
+ * and the licenses of the other code concerned.
+ *
+ * Note that people who make modified versions of this mod are not obligated to grant
+ * this special exception for their modified versions; it is their choice whether to do so.
+ * The GNU General Public License gives permission to release a modified version without this exception;
+ * this exception also makes it possible to release a modified version which carries forward this exception.
+ */
+package ladysnake.requiem.common.impl.remnant;
+
+import net.fabricmc.fabric.api.util.NbtType;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SimpleAttritionFocusTest {
+    private static final UUID PLAYER_A = UUID.fromString("6d1c7e0a-3c8e-4b6b-9d7a-2f0e5b1a9c01");
+    private static final UUID PLAYER_B = UUID.fromString("a41e9b3f-0f52-4d3c-8b7e-5c9d2e1f4a02");
+
+    @Test
+    void startsWithoutAttrition() {
+        SimpleAttritionFocus focus = new SimpleAttritionFocus();
+
+        assertFalse(focus.hasAttrition());
+        assertTrue(write(focus).isEmpty());
+    }
+
+    @Test
+    void addAttritionSumsLevelsPerPlayer() {
+        SimpleAttritionFocus focus = new SimpleAttritionFocus();
+        focus.addAttrition(PLAYER_A, 1);
+        focus.addAttrition(PLAYER_A, 2);
+        focus.addAttrition(PLAYER_B, 1);
+
+        assertTrue(focus.hasAttrition());
+        assertEquals(levels(PLAYER_A, 3, PLAYER_B, 1), readLevels(write(focus)));
+    }
+
+    @Test
+    void transferMovesAllLevels() {
+        SimpleAttritionFocus from = new SimpleAttritionFocus();
+        from.addAttrition(PLAYER_A, 3);
+        from.addAttrition(PLAYER_B, 1);
+        SimpleAttritionFocus to = new SimpleAttritionFocus();
+        to.addAttrition(PLAYER_B, 1);
+
+        from.transferAttrition(to);
+
+        assertFalse(from.hasAttrition());
+        assertTrue(write(from).isEmpty());
+        assertEquals(levels(PLAYER_A, 3, PLAYER_B, 2), readLevels(write(to)));
+    }
+
+    @Test
+    void transferFromEmptyFocusDoesNothing() {
+        SimpleAttritionFocus to = new SimpleAttritionFocus();
+
+        new SimpleAttritionFocus().transferAttrition(to);
+
+        assertFalse(to.hasAttrition());
+    }
+
+    @Test
+    void nbtRoundTrip() {
+        SimpleAttritionFocus focus = new SimpleAttritionFocus();
+        focus.addAttrition(PLAYER_A, 2);
+        focus.addAttrition(PLAYER_B, 4);
+
+        SimpleAttritionFocus read = new SimpleAttritionFocus();
+        read.readFromNbt(write(focus));
+
+        assertTrue(read.hasAttrition());
+        assertEquals(levels(PLAYER_A, 2, PLAYER_B, 4), readLevels(write(read)));
+    }
+
+    @Test
+    void readingReplacesExistingLevels() {
+        SimpleAttritionFocus source = new SimpleAttritionFocus();
+        source.addAttrition(PLAYER_B, 5);
+        SimpleAttritionFocus focus = new SimpleAttritionFocus();
+        focus.addAttrition(PLAYER_A, 1);
+
+        focus.readFromNbt(write(source));
+
+        assertEquals(levels(PLAYER_B, 5), readLevels(write(focus)));
+    }
+
+    @Test
+    void readingEmptyListClearsAttrition() {
+        CompoundTag tag = new CompoundTag();
+        tag.put("attrition_levels", new ListTag());
+        SimpleAttritionFocus focus = new SimpleAttritionFocus();
+        focus.addAttrition(PLAYER_A, 1);
+
+        focus.readFromNbt(tag);
+
+        assertFalse(focus.hasAttrition());
+    }
+
+    private static CompoundTag write(SimpleAttritionFocus focus) {
+        CompoundTag tag = new CompoundTag();
+        focus.writeToNbt(tag);
+        return tag;
+    }
+
+    private static Map<UUID, Integer> readLevels(CompoundTag tag) {
+        Map<UUID, Integer> ret = new HashMap<>();
+        ListTag levels = tag.getList("attrition_levels", NbtType.COMPOUND);
+        for (int i = 0; i < levels.size(); i++) {
+            CompoundTag level = levels.getCompound(i);
+            ret.put(level.getUuid("player_uuid"), level.getInt("level"));
+        }
+        return ret;
+    }
+
+    private static Map<UUID, Integer> levels(Object... uuidsAndLevels) {
+        Map<UUID, Integer> ret = new HashMap<>();
+        for (int i = 0; i < uuidsAndLevels.length; i += 2) {
+            ret.put((UUID) uuidsAndLevels[i], (Integer) uuidsAndLevels[i + 1]);
+        }
+        return ret;
+    }
+}
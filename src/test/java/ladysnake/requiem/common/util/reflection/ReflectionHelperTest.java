@@ -0,0 +1,104 @@
+/*
+ * Requiem
+ * Copyright (C) 2017-2021 Ladysnake
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses>.
+ *
+ * Linking this mod statically or dynamically with other
+ * modules is making a combined work based on this mod.
+ * Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *
+ * In addition, as a special exception, the copyright holders of
+ * this mod give you permission to combine this mod
+ * with free software programs or libraries that are released under the GNU LGPL
+ * and with code included in the standard release of Minecraft under All Rights Reserved (or
+ * modified versions of such code, with unchanged license).
+ * You may copy and distribute such a system following the terms of the GNU GPL for this mod
+ * and the licenses of the other code concerned.
+ *
+ * Note that people who make modified versions of this mod are not obligated to grant
+ * this special exception for their modified versions; it is their choice whether to do so.
+ * The GNU General Public License gives permission to release a modified version without this exception;
+ * this exception also makes it possible to release a modified version which carries forward this exception.
+ */
+package ladysnake.requiem.common.util.reflection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ReflectionHelperTest {
+    @Test
+    void constructorFactoryInvokesPrivateConstructor() {
+        Function<String, Greeting> factory = ReflectionHelper.createConstructorFactory(PrivateGreeting.class, String.class);
+
+        Greeting first = factory.apply("hello");
+        Greeting second = factory.apply("goodbye");
+
+        assertEquals(PrivateGreeting.class, first.getClass());
+        assertEquals("hello", first.message());
+        assertEquals("goodbye", second.message());
+        assertNotSame(first, second);
+    }
+
+    @Test
+    void constructorFactoryRejectsMissingConstructor() {
+        assertThrows(UncheckedReflectionException.class, () -> ReflectionHelper.createConstructorFactory(PrivateGreeting.class, Integer.class));
+    }
+
+    @Test
+    void constructorFactoryWrapsConstructorFailures() {
+        Function<String, Greeting> factory = ReflectionHelper.createConstructorFactory(FailingGreeting.class, String.class);
+        IllegalStateException cause = new IllegalStateException("expected");
+        FailingGreeting.toThrow = cause;
+
+        UncheckedReflectionException e = assertThrows(UncheckedReflectionException.class, () -> factory.apply("hello"));
+        assertSame(cause, e.getCause());
+    }
+
+    private interface Greeting {
+        String message();
+    }
+
+    private static final class PrivateGreeting implements Greeting {
+        private final String message;
+
+        private PrivateGreeting(String message) {
+            this.message = message;
+        }
+
+        @Override
+        public String message() {
+            return this.message;
+        }
+    }
+
+    private static final class FailingGreeting implements Greeting {
+        static RuntimeException toThrow;
+
+        private FailingGreeting(String message) {
+            throw toThrow;
+        }
+
+        @Override
+        public String message() {
+            throw new AssertionError();
+        }
+    }
+}